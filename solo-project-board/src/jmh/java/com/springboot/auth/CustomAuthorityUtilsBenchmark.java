@@ -0,0 +1,48 @@
+package com.springboot.auth;
+
+import com.springboot.auth.utils.CustomAuthorityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+//요청 1건당 권한 목록 생성 비용 비교 -> 할당량은 gc 프로파일러로 확인
+    //./gradlew jmh -Pjmh.includes=CustomAuthorityUtilsBenchmark -Pjmh.profilers=gc  (gc.alloc.rate.norm = bytes/op)
+    //perRequestAuthorities : 기존 방식 -> 요청마다 SimpleGrantedAuthority + ArrayList 생성
+    //internedAuthorities : Role 조합별로 미리 만들어 둔 권한 목록 재사용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomAuthorityUtilsBenchmark {
+    private CustomAuthorityUtils authorityUtils;
+    //JWT claims 의 roles 처럼 요청마다 새로 역직렬화되는 List
+    private List<String> roles;
+
+    @Setup
+    public void setUp() {
+        authorityUtils = new CustomAuthorityUtils();
+        roles = new ArrayList<>(List.of("ADMIN", "USER"));
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> perRequestAuthorities() {
+        return roles.stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> internedAuthorities() {
+        return authorityUtils.createAuthorities(roles);
+    }
+}
@@ -0,0 +1,60 @@
+package com.springboot.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+//JWT 검증 처리량 비교 (초당 검증 토큰 수)
+    //perRequestKey : 기존 방식 -> 요청마다 SecretKey Base64 인코딩/디코딩 + Key 생성 + JwtParser 생성
+    //cachedKey : JwtTokenizer 가 미리 만들어 둔 Key, JwtParser 사용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenizerBenchmark {
+    private JwtTokenizer jwtTokenizer;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtTokenizer = new JwtTokenizer(new VerifiedTokenCache(1, new SimpleMeterRegistry()));
+        Field secretKey = JwtTokenizer.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(jwtTokenizer, "benchmark-secret-key-benchmark-secret-key-0123456789");
+        jwtTokenizer.init();
+
+        accessToken = jwtTokenizer.generateAccessToken(
+                Map.of("username", "user@gmail.com", "roles", java.util.List.of("USER")),
+                "user@gmail.com",
+                jwtTokenizer.getTokenExpiration(60));
+    }
+
+    @Benchmark
+    public Jws<Claims> perRequestKey() {
+        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64EncodedSecretKey));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(accessToken);
+    }
+
+    @Benchmark
+    public Jws<Claims> cachedKey() {
+        return jwtTokenizer.getClaims(accessToken);
+    }
+}
@@ -0,0 +1,144 @@
+package com.springboot.board;
+
+import com.springboot.board.entity.Board;
+import com.springboot.comment.entity.Comment;
+import com.springboot.member.entity.Member;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+//글을 10만 건 쓴 회원의 게시글/답변 작성, 로그인 조회 시간 측정
+    //작성 시간이 회원이 쓴 글 수와 관계없어야 한다. (Member.boards/comments 컬렉션을 로딩하지 않음)
+//엔티티 매핑은 애플리케이션과 같은 Hibernate 설정(H2, 스키마 자동 생성), 기존 글은 SQL 로 한번에 추가
+    //호출마다 새 EntityManager -> 요청마다 영속성 컨텍스트가 새로 만들어지는 것과 같은 조건
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardCreationBenchmark {
+    private static final int EXISTING_POSTS = 100_000;
+    private static final String WRITER_EMAIL = "writer@gmail.com";
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManagerFactory emf;
+    private long writerId;
+    private long adminId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:board-creation;DB_CLOSE_DELAY=-1");
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.springboot");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        //Spring Boot 와 같은 테이블/컬럼 이름 (board_status 등)
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy", SpringPhysicalNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+        emf = factoryBean.getObject();
+
+        writerId = persistMember(WRITER_EMAIL, List.of("USER")).getMemberId();
+        adminId = persistMember("admin@gmail.com", List.of("ADMIN", "USER")).getMemberId();
+
+        //작성자의 기존 글 10만 건, 관리자의 기존 답변 10만 건
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("insert into board (board_id, title, content, board_status, public_status, member_id, " +
+                    "view_count, like_count, is_new) " +
+                    "select x, 'title ' || x, 'content ' || x, 'QUESTION_REGISTERED', 'PUBLIC', " + writerId +
+                    ", 0, 0, false from system_range(1, " + EXISTING_POSTS + ")");
+            statement.execute("insert into comment (comment_id, content, member_id) " +
+                    "select x, 'answer ' || x, " + adminId + " from system_range(1, " + EXISTING_POSTS + ")");
+            //id 는 시퀀스 (50개씩, 이 EntityManagerFactory 는 pooled : 받은 값 v 에서 v-49 ~ v 를 사용)
+                //-> 직접 넣은 id 와 겹치지 않도록 50 만큼 띄워서 시작
+            statement.execute("alter sequence board_seq restart with " + (EXISTING_POSTS + 50));
+            statement.execute("alter sequence comment_seq restart with " + (EXISTING_POSTS + 50));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        factoryBean.destroy();
+    }
+
+    //BoardService.createBoard : 작성자 조회 -> Board 저장
+    @Benchmark
+    public long createBoard() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            Board board = new Board();
+            board.setTitle("title");
+            board.setContent("content");
+            board.setPublicStatus(Board.BoardPublicStatus.PUBLIC);
+            board.setMember(em.find(Member.class, writerId));
+            em.persist(board);
+            em.getTransaction().commit();
+            return board.getBoardId();
+        } finally {
+            em.close();
+        }
+    }
+
+    //CommentService.createComment : 관리자 조회 -> Comment 저장
+    @Benchmark
+    public long createComment() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            Comment comment = new Comment();
+            comment.setContent("answer");
+            comment.setMember(em.find(Member.class, adminId));
+            em.persist(comment);
+            em.getTransaction().commit();
+            return comment.getCommentId();
+        } finally {
+            em.close();
+        }
+    }
+
+    //MemberDetailsService.loadUserByUsername : email 로 회원 + 권한 조회
+    @Benchmark
+    public int loadMemberForLogin() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            Member member = em.createQuery("select m from Member m where m.email = :email", Member.class)
+                    .setParameter("email", WRITER_EMAIL)
+                    .getSingleResult();
+            return member.getRoles().size();
+        } finally {
+            em.close();
+        }
+    }
+
+    private Member persistMember(String email, List<String> roles) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            Member member = new Member();
+            member.setEmail(email);
+            member.setPassword("password");
+            member.setUsername(email);
+            member.setPhone("010-1234-5678");
+            member.setRoles(roles);
+            em.persist(member);
+            em.getTransaction().commit();
+            return member;
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.springboot.board;
+
+import com.springboot.board.entity.Board;
+import com.springboot.member.entity.Member;
+import com.springboot.search.entity.BoardToken;
+import com.springboot.search.service.BoardTokenizer;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+//게시글 등록 처리량 (초당 게시글 수) : 요청마다 한 건 (POST /v11/boards) vs NDJSON 일괄 등록의 chunk
+    //한 건 : 트랜잭션 하나에 게시글 INSERT + 색인 조회 + 색인 INSERT (BoardService.createBoard)
+    //일괄 : 트랜잭션 하나에 게시글 CHUNK_SIZE 건, INSERT 는 JDBC batch (BoardImportService)
+//@OperationsPerInvocation -> 두 방식 모두 결과는 게시글 한 건당 처리량
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BoardImportBenchmark {
+    private static final int CHUNK_SIZE = 500;
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManagerFactory emf;
+    private long writerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:board-import;DB_CLOSE_DELAY=-1");
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.springboot");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        //Spring Boot 와 같은 테이블/컬럼 이름 (board_status 등)
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy", SpringPhysicalNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+        emf = factoryBean.getObject();
+
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            Member writer = new Member();
+            writer.setEmail("writer@gmail.com");
+            writer.setPassword("password");
+            writer.setUsername("writer");
+            writer.setPhone("010-1234-5678");
+            writer.setRoles(List.of("USER"));
+            em.persist(writer);
+            em.getTransaction().commit();
+            writerId = writer.getMemberId();
+        } finally {
+            em.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        factoryBean.destroy();
+    }
+
+    //POST /v11/boards 한 번
+    @Benchmark
+    public long createOne() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            Board board = newBoard(em);
+            em.persist(board);
+            //BoardSearchIndexer.index : 색인된 토큰 조회 후 추가
+            em.createQuery("select t.token from BoardToken t where t.boardId = :boardId", String.class)
+                    .setParameter("boardId", board.getBoardId())
+                    .getResultList();
+            persistTokens(em, board);
+            em.getTransaction().commit();
+            return board.getBoardId();
+        } finally {
+            em.close();
+        }
+    }
+
+    //POST /v11/boards/import 의 chunk 하나
+    @Benchmark
+    @OperationsPerInvocation(CHUNK_SIZE)
+    public int importChunk() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.unwrap(Session.class).setJdbcBatchSize(CHUNK_SIZE);
+            List<Board> boards = new ArrayList<>(CHUNK_SIZE);
+            for (int i = 0; i < CHUNK_SIZE; i++) {
+                Board board = newBoard(em);
+                em.persist(board);
+                boards.add(board);
+            }
+            //BoardSearchIndexer.indexNew : 조회 없이 추가
+            for (Board board : boards) {
+                persistTokens(em, board);
+            }
+            em.getTransaction().commit();
+            return boards.size();
+        } finally {
+            em.close();
+        }
+    }
+
+    private Board newBoard(EntityManager em) {
+        Board board = new Board();
+        board.setTitle("imported question");
+        board.setContent("imported content");
+        board.setPublicStatus(Board.BoardPublicStatus.PUBLIC);
+        board.setMember(em.getReference(Member.class, writerId));
+        return board;
+    }
+
+    private void persistTokens(EntityManager em, Board board) {
+        for (String token : BoardTokenizer.tokenize(board.getTitle(), board.getContent())) {
+            em.persist(new BoardToken(token, board.getBoardId()));
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.springboot.board;
+
+import com.springboot.board.dto.BoardDto;
+import com.springboot.board.entity.Board;
+import com.springboot.board.repository.BoardCursor;
+import com.springboot.board.repository.BoardRepository;
+import com.springboot.board.repository.BoardSort;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+//게시글 목록 조회가 100만 건에서도 정렬 인덱스로 처리되는지 측정 (정렬 기준 x 정렬 방향)
+    //BoardService 와 같은 상태 조건(삭제 제외 / 상태 하나)으로 BoardRepository 를 호출 -> Board 엔티티의 인덱스, BoardRepositoryImpl 의 SQL 그대로
+//setup 에서 Hibernate 가 실행한 목록 SQL 을 같은 파라미터로 EXPLAIN
+    //정렬 방향에 맞는 (정렬 컬럼, board_id) 인덱스를 정렬 없이(index sorted) 읽지 않으면 측정하지 않고 실패한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardListingBenchmark {
+    private static final int BOARD_COUNT = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+    //BoardService.listableStatuses : status 가 없으면 삭제된 글을 제외한 전체, 있으면 그 상태 하나
+    private static final List<Board.BoardStatus> LISTABLE_STATUSES = List.of(Board.BoardStatus.QUESTION_REGISTERED,
+            Board.BoardStatus.QUESTION_ANSWERED, Board.BoardStatus.QUESTION_DEACTIVED);
+    private static final List<Board.BoardStatus> ANSWERED = List.of(Board.BoardStatus.QUESTION_ANSWERED);
+
+    @Param({"CREATED", "LIKES", "VIEWS"})
+    private BoardSort sort;
+
+    @Param({"DESC", "ASC"})
+    private Sort.Direction direction;
+
+    private AnnotationConfigApplicationContext context;
+    private TransactionTemplate readOnly;
+    private BoardRepository boardRepository;
+    //정렬 순서의 1/4 지점 글 (커서)
+    private BoardCursor cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        context = new AnnotationConfigApplicationContext(JpaConfig.class);
+        boardRepository = context.getBean(BoardRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(JpaTransactionManager.class));
+        readOnly.setReadOnly(true);
+        RecordingDataSource dataSource = context.getBean(RecordingDataSource.class);
+
+        //10% 삭제, 나머지는 등록/답변 완료/비활성화 상태
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("insert into board (board_id, created_at, last_modified_at, title, content, " +
+                "board_status, public_status, view_count, like_count, is_new) " +
+                "select x, dateadd('SECOND', x, timestamp '2022-01-01 00:00:00'), " +
+                "dateadd('SECOND', x, timestamp '2022-01-01 00:00:00'), 'title ' || x, 'content ' || x, " +
+                "case when mod(x, 10) = 0 then 'QUESTION_DELETE' when mod(x, 10) = 1 then 'QUESTION_DEACTIVED' " +
+                "when mod(x, 4) = 0 then 'QUESTION_ANSWERED' else 'QUESTION_REGISTERED' end, " +
+                "'PUBLIC', mod(x * 104729, 100000), mod(x * 7919, 1000), false " +
+                "from system_range(1, " + BOARD_COUNT + ")");
+        jdbcTemplate.execute("analyze");
+
+        BoardDto.Response quarter = readOnly.execute(status -> boardRepository.findBoards(LISTABLE_STATUSES,
+                sort, direction, PageRequest.of(BOARD_COUNT / 4 / PAGE_SIZE, PAGE_SIZE)).getContent().get(0));
+        cursor = BoardCursor.of(quarter, sort, direction, false);
+
+        //측정하는 목록 조회를 한번씩 실행해서 SQL 기록
+        dataSource.startRecording();
+        firstPage();
+        deepPage();
+        cursorPage();
+        previousPage();
+        statusPage();
+        List<RecordedQuery> queries = dataSource.stopRecording();
+        for (RecordedQuery query : queries) {
+            //COUNT 쿼리는 정렬하지 않는다.
+            if (query.sql.contains(" order by ")) {
+                assertIndexSorted(dataSource.getTargetDataSource(), query);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new JdbcTemplate(context.getBean(DataSource.class)).execute("drop all objects");
+        context.close();
+    }
+
+    //GET /v11/boards?page=1 (목록 + COUNT)
+    @Benchmark
+    public List<BoardDto.Response> firstPage() {
+        return readOnly.execute(status -> boardRepository.findBoards(
+                LISTABLE_STATUSES, sort, direction, PageRequest.of(0, PAGE_SIZE)).getContent());
+    }
+
+    //GET /v11/boards?page=1001 (offset 2만 건)
+    @Benchmark
+    public List<BoardDto.Response> deepPage() {
+        return readOnly.execute(status -> boardRepository.findBoards(
+                LISTABLE_STATUSES, sort, direction, PageRequest.of(1000, PAGE_SIZE)).getContent());
+    }
+
+    //GET /v11/boards?cursor= (25만 번째 글 다음 페이지)
+    @Benchmark
+    public List<BoardDto.Response> cursorPage() {
+        return readOnly.execute(status -> boardRepository.findBoardsByCursor(
+                LISTABLE_STATUSES, sort, direction, cursor, PAGE_SIZE + 1));
+    }
+
+    //이전 페이지 : 반대 방향으로 seek -> 반대 방향 인덱스
+    @Benchmark
+    public List<BoardDto.Response> previousPage() {
+        BoardCursor backward = new BoardCursor(sort, direction, cursor.getValue(), cursor.getBoardId(), true);
+        return readOnly.execute(status -> boardRepository.findBoardsByCursor(
+                LISTABLE_STATUSES, sort, direction, backward, PAGE_SIZE + 1));
+    }
+
+    //GET /v11/boards?status=QUESTION_ANSWERED
+    @Benchmark
+    public List<BoardDto.Response> statusPage() {
+        return readOnly.execute(status -> boardRepository.findBoards(
+                ANSWERED, sort, direction, PageRequest.of(0, PAGE_SIZE)).getContent());
+    }
+
+    //EXPLAIN 결과에 정렬 방향의 인덱스와 "index sorted" 가 있는지 확인
+        //이전 페이지 SQL 은 반대 방향으로 정렬하므로 SQL 의 정렬 방향으로 인덱스를 고른다.
+    private void assertIndexSorted(DataSource dataSource, RecordedQuery query) throws SQLException {
+        boolean descending = query.sql.substring(query.sql.lastIndexOf(" order by ")).contains(" desc");
+        String column = sort.getProperty().replaceAll("([A-Z])", "_$1").toUpperCase();
+        Pattern index = Pattern.compile("\\bIDX_BOARD_" + column + (descending ? "_DESC" : "") + "\\b");
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("explain " + query.sql)) {
+            for (Map.Entry<Integer, Object> parameter : query.parameters.entrySet()) {
+                explain.setObject(parameter.getKey(), parameter.getValue());
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                resultSet.next();
+                String plan = resultSet.getString(1);
+                if (!index.matcher(plan).find() || !plan.contains("index sorted")) {
+                    throw new IllegalStateException("sort is not index-driven:\n" + plan);
+                }
+            }
+        }
+    }
+
+    //실행된 SQL 과 바인딩된 파라미터 (index -> 값)
+    private static final class RecordedQuery {
+        private final String sql;
+        private final Map<Integer, Object> parameters;
+
+        private RecordedQuery(String sql, Map<Integer, Object> parameters) {
+            this.sql = sql;
+            this.parameters = parameters;
+        }
+    }
+
+    //Hibernate 가 실행하는 SQL, 파라미터를 기록하는 DataSource (기록 중일 때만)
+    static class RecordingDataSource extends DelegatingDataSource {
+        private final List<RecordedQuery> queries = new CopyOnWriteArrayList<>();
+        private volatile boolean recording;
+
+        RecordingDataSource(DataSource target) {
+            super(target);
+        }
+
+        void startRecording() {
+            queries.clear();
+            recording = true;
+        }
+
+        List<RecordedQuery> stopRecording() {
+            recording = false;
+            return new ArrayList<>(queries);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (recording && method.getName().equals("prepareStatement")) {
+                            return recording((PreparedStatement) result, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private PreparedStatement recording(PreparedStatement statement, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                            parameters.put((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                        } else if (name.equals("executeQuery")) {
+                            queries.add(new RecordedQuery(sql, new TreeMap<>(parameters)));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    //@Configuration 을 붙이지 않음 -> 애플리케이션의 컴포넌트 스캔에 포함되지 않는다. (컨텍스트에 직접 등록)
+    @EnableJpaRepositories(basePackages = "com.springboot.board.repository")
+    static class JpaConfig {
+        @Bean
+        public RecordingDataSource dataSource() {
+            return new RecordingDataSource(new DriverManagerDataSource("jdbc:h2:mem:board-listing;DB_CLOSE_DELAY=-1"
+                    //같은 쿼리의 이전 결과를 재사용하지 않도록 (재사용하면 실제 조회 시간이 측정되지 않음)
+                    + ";OPTIMIZE_REUSE_RESULTS=0"));
+        }
+
+        @Bean
+        public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+            factoryBean.setDataSource(dataSource);
+            factoryBean.setPackagesToScan("com.springboot");
+            factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            //Spring Boot 와 같은 테이블/컬럼 이름, Board 엔티티의 인덱스로 스키마 생성
+            factoryBean.setJpaPropertyMap(Map.of(
+                    "hibernate.hbm2ddl.auto", "create",
+                    "hibernate.physical_naming_strategy", SpringPhysicalNamingStrategy.class.getName(),
+                    "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+            return factoryBean;
+        }
+
+        @Bean
+        public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+}
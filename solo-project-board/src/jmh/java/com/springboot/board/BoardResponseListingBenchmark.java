@@ -0,0 +1,118 @@
+package com.springboot.board;
+
+import com.springboot.board.dto.BoardDto;
+import com.springboot.board.entity.Board;
+import com.springboot.board.repository.BoardRepository;
+import com.springboot.board.repository.BoardSort;
+import com.springboot.member.dto.MemberDto;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+//목록 요청 한 건(게시글 20건 + 답변, 회원 20건)의 조회 시간, 할당량 측정 (-prof gc 의 gc.alloc.rate.norm)
+    //BoardService.findBoards, MemberService.findMembers 와 같은 readOnly 트랜잭션 + 응답 변환
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardResponseListingBenchmark {
+    private static final int BOARD_COUNT = 10_000;
+    private static final int MEMBER_COUNT = 1_000;
+    private static final List<Board.BoardStatus> LISTABLE_STATUSES = List.of(Board.BoardStatus.QUESTION_REGISTERED,
+            Board.BoardStatus.QUESTION_ANSWERED, Board.BoardStatus.QUESTION_DEACTIVED);
+
+    private AnnotationConfigApplicationContext context;
+    private TransactionTemplate readOnly;
+    private BoardRepository boardRepository;
+    private MemberRepository memberRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(JpaConfig.class);
+        boardRepository = context.getBean(BoardRepository.class);
+        memberRepository = context.getBean(MemberRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(JpaTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        //회원 1000명(권한 1개씩), 게시글 1만 건 (4건 중 1건은 답변 완료)
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        jdbcTemplate.execute("insert into member (member_id, email, password, username, phone, member_status) " +
+                "select x, 'member' || x || '@gmail.com', 'password', 'member' || x, '010-1234-5678', 'MEMBER_ACTIVE' " +
+                "from system_range(1, " + MEMBER_COUNT + ")");
+        jdbcTemplate.execute("insert into member_roles (member_member_id, roles) " +
+                "select x, 'USER' from system_range(1, " + MEMBER_COUNT + ")");
+        jdbcTemplate.execute("insert into comment (comment_id, content, member_id) " +
+                "select x, 'answer ' || x, 1 from system_range(1, " + BOARD_COUNT + ") where mod(x, 4) = 0");
+        jdbcTemplate.execute("insert into board (board_id, created_at, title, content, board_status, public_status, " +
+                "member_id, comment_id, view_count, like_count, is_new) " +
+                "select x, dateadd('SECOND', x, timestamp '2022-01-01 00:00:00'), 'title ' || x, 'content ' || x, " +
+                "case when mod(x, 4) = 0 then 'QUESTION_ANSWERED' else 'QUESTION_REGISTERED' end, 'PUBLIC', " +
+                "mod(x, " + MEMBER_COUNT + ") + 1, case when mod(x, 4) = 0 then x end, 0, 0, false " +
+                "from system_range(1, " + BOARD_COUNT + ")");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    //GET /v11/boards?page=1&size=20
+    @Benchmark
+    public List<BoardDto.Response> listBoards() {
+        return readOnly.execute(status -> boardRepository.findBoards(
+                LISTABLE_STATUSES, BoardSort.CREATED, Sort.Direction.DESC, PageRequest.of(0, 20)).getContent());
+    }
+
+    //GET /v11/members?page=1&size=20
+    @Benchmark
+    public List<MemberDto.Response> listMembers() {
+        return readOnly.execute(status -> memberRepository.findMemberResponses(
+                PageRequest.of(0, 20, Sort.by("memberId").descending())).getContent());
+    }
+
+    //@Configuration 을 붙이지 않음 -> 애플리케이션의 컴포넌트 스캔에 포함되지 않는다. (컨텍스트에 직접 등록)
+    @EnableJpaRepositories(basePackages = {"com.springboot.board.repository", "com.springboot.member.repository"})
+    static class JpaConfig {
+        @Bean
+        public DataSource dataSource() {
+            return new DriverManagerDataSource("jdbc:h2:mem:board-response-listing;DB_CLOSE_DELAY=-1");
+        }
+
+        @Bean
+        public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+            factoryBean.setDataSource(dataSource);
+            factoryBean.setPackagesToScan("com.springboot");
+            factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            //Spring Boot 와 같은 테이블/컬럼 이름
+            factoryBean.setJpaPropertyMap(Map.of(
+                    "hibernate.hbm2ddl.auto", "create",
+                    "hibernate.physical_naming_strategy", SpringPhysicalNamingStrategy.class.getName(),
+                    "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+            return factoryBean;
+        }
+
+        @Bean
+        public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+}
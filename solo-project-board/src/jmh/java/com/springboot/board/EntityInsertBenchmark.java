@@ -0,0 +1,200 @@
+package com.springboot.board;
+
+import com.springboot.board.entity.Board;
+import com.springboot.comment.entity.Comment;
+import com.springboot.member.entity.Member;
+import com.springboot.view.View;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+//엔티티 INSERT 처리량 (초당 행 수) : 트랜잭션 하나에 ROWS 건 persist
+    //application.yml 과 같은 batch 설정 (batch_size, order_inserts, pooled-lo)
+    //IDENTITY 엔티티는 persist 마다 INSERT 를 바로 실행해야 해서 batch 설정이 적용되지 않는다.
+//roundTripMicros : SQL 실행(execute, executeBatch)마다 기다리는 시간 -> 네트워크로 연결된 DB 의 왕복 시간 흉내
+    //메모리 H2 는 왕복 비용이 없어서 batch 로 줄어드는 실행 횟수가 처리량에 거의 나타나지 않는다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EntityInsertBenchmark {
+    private static final int ROWS = 100;
+
+    @Param({"0", "200"})
+    private long roundTripMicros;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManagerFactory emf;
+    private long writerId;
+    private long boardId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:entity-insert;DB_CLOSE_DELAY=-1");
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(withRoundTrip(dataSource, roundTripMicros));
+        factoryBean.setPackagesToScan("com.springboot");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        //Spring Boot 와 같은 테이블/컬럼 이름 + application.yml 의 batch 설정
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy", SpringPhysicalNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName(),
+                "hibernate.jdbc.batch_size", "50",
+                "hibernate.order_inserts", "true",
+                "hibernate.id.optimizer.pooled.preferred", "pooled-lo"));
+        factoryBean.afterPropertiesSet();
+        emf = factoryBean.getObject();
+
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            Member writer = newMember();
+            em.persist(writer);
+            Board board = new Board();
+            board.setTitle("title");
+            board.setContent("content");
+            board.setPublicStatus(Board.BoardPublicStatus.PUBLIC);
+            board.setMember(writer);
+            em.persist(board);
+            em.getTransaction().commit();
+            writerId = writer.getMemberId();
+            boardId = board.getBoardId();
+        } finally {
+            em.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        factoryBean.destroy();
+    }
+
+    //회원가입 (member + member_roles)
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int insertMembers() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (int i = 0; i < ROWS; i++) {
+                em.persist(newMember());
+            }
+            em.getTransaction().commit();
+            return ROWS;
+        } finally {
+            em.close();
+        }
+    }
+
+    //관리자 답변
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int insertComments() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            Member admin = em.getReference(Member.class, writerId);
+            for (int i = 0; i < ROWS; i++) {
+                Comment comment = new Comment();
+                comment.setContent("answer");
+                comment.setMember(admin);
+                em.persist(comment);
+            }
+            em.getTransaction().commit();
+            return ROWS;
+        } finally {
+            em.close();
+        }
+    }
+
+    //조회 기록
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int insertViews() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            Board board = em.getReference(Board.class, boardId);
+            Member member = em.getReference(Member.class, writerId);
+            for (int i = 0; i < ROWS; i++) {
+                View view = new View();
+                view.setBoard(board);
+                view.setMember(member);
+                view.setViewedAt(LocalDateTime.now());
+                em.persist(view);
+            }
+            em.getTransaction().commit();
+            return ROWS;
+        } finally {
+            em.close();
+        }
+    }
+
+    //Connection 에서 만든 Statement 의 execute* 호출마다 roundTripMicros 대기
+    private static DataSource withRoundTrip(DataSource target, long roundTripMicros) {
+        if (roundTripMicros == 0) {
+            return target;
+        }
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class[]{DataSource.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    return result instanceof Connection
+                            ? delayStatements((Connection) result, roundTripMicros) : result;
+                });
+    }
+
+    private static Connection delayStatements(Connection connection, long roundTripMicros) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (!(result instanceof Statement)) {
+                        return result;
+                    }
+                    Class<?> type = result instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+                    return Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, (statement, call, callArgs) -> {
+                        if (call.getName().startsWith("execute")) {
+                            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+                        }
+                        return invoke(result, call, callArgs);
+                    });
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Member newMember() {
+        Member member = new Member();
+        member.setEmail("member" + sequence.incrementAndGet() + "@gmail.com");
+        member.setPassword("password");
+        member.setUsername("member");
+        member.setPhone("010-1234-5678");
+        member.setRoles(List.of("USER"));
+        return member;
+    }
+}
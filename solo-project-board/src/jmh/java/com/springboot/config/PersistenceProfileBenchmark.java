@@ -0,0 +1,107 @@
+package com.springboot.config;
+
+import com.springboot.SpringStartApplication;
+import com.springboot.board.entity.Board;
+import com.springboot.board.service.BoardService;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//개발 프로필(기본 : 메모리 H2, ddl-auto create, SQL 출력, JPA DEBUG 로그) vs prod 프로필(파일 H2, validate, 로그 끔)
+    //startup : 애플리케이션 전체 시작 시간 (fork 마다 새 JVM, 새 DB 파일)
+    //createBoard, findBoards : 시작한 애플리케이션의 BoardService 호출 처리량 (SQL 출력, 로그 비용 포함)
+//로그가 그대로 출력되도록 logback 설정을 바꾸지 않고 실행 -> ./gradlew jmh 또는 java -cp ... org.openjdk.jmh.Main PersistenceProfileBenchmark
+public class PersistenceProfileBenchmark {
+    private static final int SEEDED_BOARDS = 1_000;
+
+    @State(Scope.Benchmark)
+    public static class Application {
+        @Param({"default", "prod"})
+        private String profile;
+
+        private ConfigurableApplicationContext context;
+        private BoardService boardService;
+        private long writerId;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            context = start(profile);
+            boardService = context.getBean(BoardService.class);
+
+            Member writer = new Member();
+            writer.setEmail("writer@gmail.com");
+            writer.setPassword("password");
+            writer.setUsername("writer");
+            writer.setPhone("010-1234-5678");
+            writer.setRoles(List.of("USER"));
+            writerId = context.getBean(MemberRepository.class).save(writer).getMemberId();
+            for (int i = 0; i < SEEDED_BOARDS; i++) {
+                boardService.createBoard(newBoard(writerId));
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Startup {
+        @Param({"default", "prod"})
+        private String profile;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(5)
+    public void startup(Startup startup) throws IOException {
+        start(startup.profile).close();
+    }
+
+    //POST /v11/boards : 작성자 확인 + 게시글, 색인 INSERT
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public long createBoard(Application application) {
+        return application.boardService.createBoard(newBoard(application.writerId)).getBoardId();
+    }
+
+    //GET /v11/boards : 최신글 20건 + 전체 건수
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int findBoards(Application application) {
+        return application.boardService.findBoards(0, 20, "created", "desc", null).getNumberOfElements();
+    }
+
+    private static ConfigurableApplicationContext start(String profile) throws IOException {
+        Path dataDir = Files.createTempDirectory("board-db");
+        return new SpringApplicationBuilder(SpringStartApplication.class)
+                .profiles(profile)
+                .properties("DB_PATH=" + dataDir.resolve("board"), "server.port=0")
+                .run();
+    }
+
+    private static Board newBoard(long writerId) {
+        Member writer = new Member();
+        writer.setMemberId(writerId);
+        Board board = new Board();
+        board.setTitle("benchmark question");
+        board.setContent("benchmark content");
+        board.setPublicStatus(Board.BoardPublicStatus.PUBLIC);
+        board.setMember(writer);
+        return board;
+    }
+}
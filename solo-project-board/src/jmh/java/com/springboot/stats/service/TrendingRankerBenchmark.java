@@ -0,0 +1,37 @@
+package com.springboot.stats.service;
+
+import com.springboot.stats.dto.BoardStatsDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+//실시간 인기글 조회(top 10), 조회 반영 시간 측정 (게시글 capacity 개가 순위에 있는 상태)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrendingRankerBenchmark {
+    private static final int CAPACITY = 1000;
+
+    private TrendingRanker ranker;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ranker = new TrendingRanker(null, null, CAPACITY, 5, 60);
+        for (long boardId = 1; boardId <= CAPACITY; boardId++) {
+            ranker.add(boardId, "title " + boardId, ThreadLocalRandom.current().nextInt(1, 100),
+                    System.currentTimeMillis());
+        }
+    }
+
+    @Benchmark
+    public List<BoardStatsDto.Ranked> top10() {
+        return ranker.top(10);
+    }
+
+    @Benchmark
+    public void recordView() {
+        ranker.recordView(ThreadLocalRandom.current().nextLong(1, CAPACITY * 2), "title");
+    }
+}
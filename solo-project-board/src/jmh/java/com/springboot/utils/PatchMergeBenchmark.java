@@ -0,0 +1,110 @@
+package com.springboot.utils;
+
+import com.springboot.board.entity.Board;
+import com.springboot.board.mapper.BoardMapper;
+import com.springboot.comment.entity.Comment;
+import com.springboot.comment.mapper.CommentMapper;
+import com.springboot.member.entity.Member;
+import com.springboot.member.mapper.MemberMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//수정 요청 병합 : 리플렉션(BeanWrapper) 복사 vs MapStruct 가 생성한 복사 (@MappingTarget, null 무시)
+    //beanWrapper* : 삭제된 CustomBeanUtils.copyNonNullProperties 와 같은 구현
+        //Board 는 isNew 필드의 getter 가 isNew() 라서 BeanWrapper 로 읽을 수 없어 측정하지 않는다.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PatchMergeBenchmark {
+    private final MemberMapper memberMapper = Mappers.getMapper(MemberMapper.class);
+    private final CommentMapper commentMapper = Mappers.getMapper(CommentMapper.class);
+    private final BoardMapper boardMapper = Mappers.getMapper(BoardMapper.class);
+
+    private Member memberPatch;
+    private Member member;
+    private Comment commentPatch;
+    private Comment comment;
+    private Board boardPatch;
+    private Board board;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        memberPatch = new Member();
+        memberPatch.setUsername("new name");
+        memberPatch.setPhone("010-9876-5432");
+        member = new Member();
+        member.setMemberId(1L);
+        member.setEmail("member@gmail.com");
+        member.setPassword("password");
+        member.setUsername("name");
+        member.setPhone("010-1234-5678");
+        member.setRoles(List.of("USER"));
+
+        commentPatch = new Comment();
+        commentPatch.setContent("new answer");
+        comment = new Comment();
+        comment.setCommentId(1L);
+        comment.setContent("answer");
+
+        boardPatch = new Board();
+        boardPatch.setTitle("new title");
+        board = new Board();
+        board.setBoardId(1L);
+        board.setTitle("title");
+        board.setContent("content");
+        board.setPublicStatus(Board.BoardPublicStatus.PUBLIC);
+    }
+
+    @Benchmark
+    public Member beanWrapperMember() {
+        return copyNonNullProperties(memberPatch, member);
+    }
+
+    @Benchmark
+    public Member mapStructMember() {
+        memberMapper.updateMember(memberPatch, member);
+        return member;
+    }
+
+    @Benchmark
+    public Comment beanWrapperComment() {
+        return copyNonNullProperties(commentPatch, comment);
+    }
+
+    @Benchmark
+    public Comment mapStructComment() {
+        commentMapper.updateComment(commentPatch, comment);
+        return comment;
+    }
+
+    @Benchmark
+    public Board mapStructBoard() {
+        boardMapper.updateBoard(boardPatch, board);
+        return board;
+    }
+
+    private static <T> T copyNonNullProperties(T source, T destination) {
+        if (source == null || destination == null || source.getClass() != destination.getClass()) {
+            return null;
+        }
+
+        final BeanWrapper src = new BeanWrapperImpl(source);
+        final BeanWrapper dest = new BeanWrapperImpl(destination);
+
+        for (final Field property : source.getClass().getDeclaredFields()) {
+            Object sourceProperty = src.getPropertyValue(property.getName());
+            if (sourceProperty != null && !(sourceProperty instanceof Collection<?>)) {
+                dest.setPropertyValue(property.getName(), sourceProperty);
+            }
+        }
+
+        return destination;
+    }
+}
@@ -2,7 +2,10 @@ package com.springboot.auth;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.io.Encoders;
 import io.jsonwebtoken.security.Keys;
@@ -10,8 +13,11 @@ import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Map;
@@ -37,62 +43,85 @@ public class JwtTokenizer {
     @Value("${jwt.refresh-token-expiration-minutes}")
     private int refreshTokenExpirationMinutes;
 
+    //요청마다 Base64 인코딩/디코딩 + Key 생성을 하지 않도록 시작할 때 한번만 Key 생성
+        //키 교체(rotation) 시 현재 Key 와 이전 Key 를 함께 들고 있다. -> 교체 전에 발급된 토큰도 검증 가능
+    private volatile SigningKeys signingKeys;
+
+    //미리 만들어 둔 JwtParser (thread-safe) -> 토큰의 kid 헤더로 현재/이전 Key 중 하나를 골라 검증
+    @Getter
+    private final JwtParser jwtParser = Jwts.parserBuilder()
+            .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                @Override
+                public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                    return signingKeys.resolve(header.getKeyId());
+                }
+            })
+            .build();
+
+    //이전 Key 를 폐기할 때 이전 Key 로 검증해 둔 토큰도 캐시에서 제거
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtTokenizer(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    //application.yml 의 jwt.key 로 서명 Key 생성
+    @PostConstruct
+    public void init() {
+        this.signingKeys = new SigningKeys(createSigningKey(secretKey), null);
+    }
+
+    //키 교체 : 새 Key 로 서명하고, 교체 전 Key 는 이전 Key 로 남겨 기존 토큰 검증에 사용
+    public synchronized void rotateKey(String newSecretKey) {
+        this.signingKeys = new SigningKeys(createSigningKey(newSecretKey), signingKeys.current);
+    }
+
+    //이전 Key 로 발급된 토큰이 모두 만료된 뒤 호출 -> 이전 Key 로 서명된 토큰은 더 이상 검증되지 않는다.
+    public synchronized void retirePreviousKey() {
+        this.signingKeys = new SigningKeys(signingKeys.current, null);
+        //캐시에 남은 검증 결과는 어떤 Key 로 서명됐는지 모르므로 모두 제거 -> 현재 Key 토큰은 다음 요청에서 다시 검증
+        verifiedTokenCache.invalidateAll();
+    }
+
     //Plain Text 형태인 Secret Key의 byte[]를 Base64 형식의 문자열로 인코딩
     public String encodeBase64SecretKey(String secretKey) {
         return Encoders.BASE64.encode(secretKey.getBytes(StandardCharsets.UTF_8));
     }
 
-    // 인증된 사용자에게 JWT를 최초로 발급해 주기 위한 JWT 생성 메서드
-    public String generateAccessToken(Map<String, Object> claims,
-                                      String subject,
-                                      Date expiration,
-                                      String base64EncodedSecretKey) {
-//        Base64 형식 Secret Key 문자열을 이용해 Key(java.security.Key) 객체 생성
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
+    //미리 생성해 둔 현재 Key 로 AccessToken 생성
+    public String generateAccessToken(Map<String, Object> claims, String subject, Date expiration) {
+        SigningKey signingKey = signingKeys.current;
 
         return Jwts.builder()
-                .setClaims(claims) //인증된 사용자와 관련된 정보 추가
-                .setSubject(subject) // JWT에 제목
-                .setIssuedAt(Calendar.getInstance().getTime()) //JWT 발행일자 설정(Date 타입을 인자로 받음)
-                .setExpiration(expiration) //JWT 만료일시 지정(DATE 타입을 인자로 받음)
-                .signWith(key) // 서명을 위한 Key 객체를 설정
-                .compact(); // JWT 생성하고 직렬화함
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.id) //검증 시 어떤 Key 로 서명했는지 알 수 있도록
+                .setClaims(claims)
+                .setSubject(subject)
+                .setIssuedAt(Calendar.getInstance().getTime())
+                .setExpiration(expiration)
+                .signWith(signingKey.key)
+                .compact();
     }
 
-    //Access 토큰이 만료되면, 새로 생성할 수 있도록 RefreshToken을 생성
-        //RefreshToken 이 AccessToken을 새로 발급해주는 역할을 하는 토큰이기 때문에 별도의 claims를 추가하지 않아도된다.
-    public String generateRefreshToken(String subject,
-                                       Date expiration,
-                                       String base64EncodedSecretKey) {
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
+    //미리 생성해 둔 현재 Key 로 RefreshToken 생성
+    public String generateRefreshToken(String subject, Date expiration) {
+        SigningKey signingKey = signingKeys.current;
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.id)
                 .setSubject(subject)
                 .setIssuedAt(Calendar.getInstance().getTime())
                 .setExpiration(expiration)
-                .signWith(key)
+                .signWith(signingKey.key)
                 .compact();
-
     }
 
-    public Jws<Claims> getClaims(String jws, String base64EncodedSecretKey) {
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
-
-        //검증 메서드 (두개의 값이 같지 않을 때 오류발생)
-        Jws<Claims> claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(jws);
-        return claims;
+    //미리 만들어 둔 JwtParser 로 검증 + Claims 파싱 -> HMAC 검증 한번
+    public Jws<Claims> getClaims(String jws) {
+        return jwtParser.parseClaimsJws(jws);
     }
 
-    public void verifySignature(String jws, String base64EncodedSecretKey){
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
-
-        Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(jws);
+    public void verifySignature(String jws) {
+        jwtParser.parseClaimsJws(jws);
     }
 
     //JWT 만료일시를 저장하기 위한 메서드 -> JWT 생성시 사용
@@ -113,4 +142,48 @@ public class JwtTokenizer {
 
         return key;
     }
+
+    private SigningKey createSigningKey(String plainSecretKey) {
+        Key key = getKeyFromBase64EncodedKey(encodeBase64SecretKey(plainSecretKey));
+        return new SigningKey(keyIdOf(key), key);
+    }
+
+    //kid : Key 자체를 노출하지 않도록 Key 의 SHA-256 해시 앞부분 사용
+    private String keyIdOf(Key key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getEncoded());
+            return Encoders.BASE64URL.encode(digest).substring(0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class SigningKey {
+        private final String id;
+        private final Key key;
+
+        private SigningKey(String id, Key key) {
+            this.id = id;
+            this.key = key;
+        }
+    }
+
+    //현재 Key + 이전 Key (불변 객체로 한번에 교체)
+    private static final class SigningKeys {
+        private final SigningKey current;
+        private final SigningKey previous;
+
+        private SigningKeys(SigningKey current, SigningKey previous) {
+            this.current = current;
+            this.previous = previous;
+        }
+
+        //kid 가 이전 Key 를 가리킬 때만 이전 Key, 그 외(kid 없는 토큰 포함)는 현재 Key
+        private Key resolve(String keyId) {
+            if (previous != null && previous.id.equals(keyId)) {
+                return previous.key;
+            }
+            return current.key;
+        }
+    }
 }
@@ -1,7 +1,6 @@
 package com.springboot.auth;
 
 import com.springboot.auth.utils.CustomAuthorityUtils;
-import com.springboot.board.entity.Board;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
 import com.springboot.member.entity.Member;
@@ -47,8 +46,6 @@ public class MemberDetailsService implements UserDetailsService {
             setPhone(member.getPhone());
             setMemberStatus(member.getMemberStatus());
             setRoles(member.getRoles());
-            setBoards(member.getBoards());
-            setComments(member.getComments());
         }
 
         //User 권한 정보 생성
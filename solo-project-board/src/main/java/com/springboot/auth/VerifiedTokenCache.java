@@ -0,0 +1,122 @@
+package com.springboot.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.springboot.event.MemberChangedEvent;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//검증이 끝난 AccessToken 캐시
+    //클라이언트는 AccessToken 만료(10분) 전까지 같은 토큰을 계속 보낸다.
+    //-> 한번 검증한 토큰은 파싱, 서명(HMAC) 검증, 권한 목록 생성을 다시 하지 않는다.
+//key : 토큰의 SHA-256 해시 (토큰 원문은 메모리에 남기지 않음)
+//만료 : 토큰의 exp 시각에 캐시에서도 만료
+//회원 정보(권한, 탈퇴 등)가 변경되면 해당 회원의 검증 결과를 제거, 이전 서명 Key 를 폐기하면 전체 제거 (JwtTokenizer)
+@Component
+public class VerifiedTokenCache {
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-token-cache.maximum-size:10000}") long maximumSize,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        //hit/miss, eviction 수를 /actuator/metrics (cache.*, cache=verifiedTokens) 로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedTokens");
+    }
+
+    //검증된 토큰이면 캐시된 정보, 처음 보는 토큰이면 null
+    public VerifiedToken get(String jws) {
+        return cache.getIfPresent(hash(jws));
+    }
+
+    public VerifiedToken put(String jws, String username, List<GrantedAuthority> authorities, Date expiration) {
+        VerifiedToken verifiedToken = new VerifiedToken(username, authorities, expiration.getTime());
+        cache.put(hash(jws), verifiedToken);
+        return verifiedToken;
+    }
+
+    //로그아웃 : 해당 토큰을 캐시에서 제거
+        //토큰 폐기 목록(deny list)에 추가할 때 함께 호출해야 캐시된 검증 결과가 계속 사용되지 않는다.
+    public void invalidate(String jws) {
+        cache.invalidate(hash(jws));
+    }
+
+    //회원 권한 변경, 탈퇴 등으로 해당 회원의 토큰을 모두 폐기할 때
+    public void invalidateUser(String username) {
+        cache.asMap().values().removeIf(verifiedToken -> verifiedToken.getUsername().equals(username));
+    }
+
+    //회원 권한 변경, 탈퇴 트랜잭션이 커밋된 후에 해당 회원의 토큰 제거 -> 다음 요청에서 토큰을 다시 검증
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (event.getEmail() != null) {
+            invalidateUser(event.getEmail());
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private String hash(String jws) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(jws.getBytes(StandardCharsets.UTF_8));
+            return Encoders.BASE64.encode(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //캐시에 저장되는 검증 결과 (불변)
+    @Getter
+    @AllArgsConstructor
+    public static class VerifiedToken {
+        private final String username;
+        private final List<GrantedAuthority> authorities;
+        //토큰의 exp (epoch millis)
+        private final long expiresAt;
+    }
+
+    //각 항목을 토큰의 exp 시각에 만료시킴
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.getExpiresAt() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
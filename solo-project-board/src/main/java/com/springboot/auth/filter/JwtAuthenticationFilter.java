@@ -85,11 +85,9 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         String subject = member.getEmail();
         Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes());
 
-        //plain text 향태인 SecretKey의 byte[]를 Base64형식의 문자열로 인코딩한다.
-            //plain Text 자체를 SecretKey 로 사용하는 것을 권장하지 않고 있다.
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
         //인증된 사용자에게 JWT 를 최초로 발급해 주기 위한 JWT 생성 메서드
-        String accessToken = jwtTokenizer.generateAccessToken(claims, subject, expiration, base64EncodedSecretKey);
+            //서명 Key 는 JwtTokenizer 가 시작할 때 Base64 인코딩된 SecretKey 로 한번만 생성해 둔다.
+        String accessToken = jwtTokenizer.generateAccessToken(claims, subject, expiration);
 
         return accessToken;
     }
@@ -99,8 +97,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         String subject = member.getEmail();
         Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMinutes());
 
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-        String refreshToken = jwtTokenizer.generateRefreshToken(subject, expiration, base64EncodedSecretKey);
+        String refreshToken = jwtTokenizer.generateRefreshToken(subject, expiration);
 
         return refreshToken;
     }
@@ -1,7 +1,9 @@
 package com.springboot.auth.filter;
 
 import com.springboot.auth.JwtTokenizer;
+import com.springboot.auth.VerifiedTokenCache;
 import com.springboot.auth.utils.CustomAuthorityUtils;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -16,7 +18,6 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 
 //1. JWT 자격 검증 기능 구현
     //OncePerRequestFilter 확장해서 request 당 한번만 실행되는 Security Filter 구현할 수 있다.
@@ -27,10 +28,13 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
     private final JwtTokenizer jwtTokenizer;
     //JWT 검증에 성공하면 Authentication 객체에 채울 사용자의 권한을 생성
     private final CustomAuthorityUtils authorityUtils;
+    //한번 검증한 토큰의 username, 권한 목록 캐시
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public JwtVerificationFilter(JwtTokenizer jwtTokenizer, CustomAuthorityUtils authorityUtils) {
+    public JwtVerificationFilter(JwtTokenizer jwtTokenizer, CustomAuthorityUtils authorityUtils, VerifiedTokenCache verifiedTokenCache) {
         this.jwtTokenizer = jwtTokenizer;
         this.authorityUtils = authorityUtils;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -41,9 +45,9 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         // try~catch 문으로 특정 예외 타입의 Exception이 catch 되면 해당 Exception을 HttpServletRequest의 애트리뷰트로 추가
         //예외가 발생하게 되면 SecurityContext에 클라이언트의 인증 정보(Authentication 객체)가 저장되지 않는다.
         try {
-            Map<String, Object> claims = verifyJws(request);
+            VerifiedTokenCache.VerifiedToken verifiedToken = verifyJws(request);
             //Authentication 객체를 SecurityContext에 저장
-            setAuthenticationToContext(claims);
+            setAuthenticationToContext(verifiedToken);
         } catch (SignatureException se) {
             request.setAttribute("exception", se);
 
@@ -70,29 +74,37 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
     }
 
     //JWT를 검증
-    private Map<String, Object> verifyJws(HttpServletRequest request) {
+    private VerifiedTokenCache.VerifiedToken verifyJws(HttpServletRequest request) {
        // request의 header에서 JWT를 얻고 있다. : 클라이언트가 response Header로 전달받은 JWT를 request header 에 추가해서 서버에 전송한 것
        // 변수명 jws : JSON Web Token Signed
         //replace() -> "Bearer " 제거
         String jws = request.getHeader("Authorization").replace("Bearer ", "");
-        //JWT 서명(Signature) 검증을 위한 SecretKey 받음
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
+        //이미 검증한 토큰이면 파싱, 서명 검증, 권한 생성 생략 (캐시는 토큰의 exp 에 만료된다)
+        VerifiedTokenCache.VerifiedToken cached = verifiedTokenCache.get(jws);
+        if (cached != null) {
+            return cached;
+        }
         //JWT 에서 claims를 파싱(파싱(parsing)은 특정 형식의 데이터나 문서를 분석하고 해석하는 과정)
         //JWT에서 Claims를 파싱 할 수 있다는 의미는 내부적으로 서명(Signature) 검증에 성공했다는 의미
-            // getClaims에 담은 두개의 값이 정상적으로 파싱되면 서명 검증도 성공한다
-        Map<String, Object> claims = jwtTokenizer.getClaims(jws, base64EncodedSecretKey).getBody();
-
-        return claims;
-    }
+            //서명 검증용 Key 는 JwtTokenizer 가 시작할 때 한번만 만들어 둔다.
+        Claims claims = jwtTokenizer.getClaims(jws).getBody();
 
-    //Authentication 객체를 SecurityContext 에 저장하기 위한 메서드
-    private void setAuthenticationToContext(Map<String, Object> claims) {
         //JWT에서 파싱한 clamis 의 username 을 얻는다.
         String username = (String) claims.get("username");
         //JWT claims에서 얻은 권한 정보를 기반으로 List<GrantedAuthority> 생성
         List<GrantedAuthority> authorities = authorityUtils.createAuthorities((List) claims.get("roles"));
+        //만료시간이 없는 토큰은 캐시하지 않는다.
+        if (claims.getExpiration() == null) {
+            return new VerifiedTokenCache.VerifiedToken(username, authorities, 0);
+        }
+        return verifiedTokenCache.put(jws, username, authorities, claims.getExpiration());
+    }
+
+    //Authentication 객체를 SecurityContext 에 저장하기 위한 메서드
+    private void setAuthenticationToContext(VerifiedTokenCache.VerifiedToken verifiedToken) {
         //username, List<GrantedAuthority>를 가진 객체 생성
-        Authentication authentication = new UsernamePasswordAuthenticationToken(username, null, authorities);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                verifiedToken.getUsername(), null, verifiedToken.getAuthorities());
         //SecurityContext에 Authentication 객체 저장
             //SecurityContext에 Authentication을 저장하게 되면 Spring Security의 세션 정책(Session Policy)에 따라서 세션을 생성하거나, 그렇지 않을 수도 있다.
             //JWT 환경에서는 세션 정책(Session Policy) 설정을 통해 세션 자체를 생성하지 않도록 설정
@@ -6,7 +6,10 @@ import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Component
@@ -17,13 +20,26 @@ public class CustomAuthorityUtils {
     private String adminMalAddress;
     //관리자용 권한목록을 List<GrantedAuthority> 객체로 미리 생성 (Spring Security의 AuthorityUtils 기능) )
      //"ROLE_" + role
-    private final List<GrantedAuthority> ADMIN_ROLES = AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN");
+    private final List<GrantedAuthority> ADMIN_ROLES =
+            Collections.unmodifiableList(AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN"));
     //일반 회원 사용 권한목록 객체 생성
-    private final List<GrantedAuthority> USER_ROLES = AuthorityUtils.createAuthorityList("ROLE_USER");
+    private final List<GrantedAuthority> USER_ROLES =
+            Collections.unmodifiableList(AuthorityUtils.createAuthorityList("ROLE_USER"));
 
     private final List<String> ADMIN_ROLES_STRING = List.of("ADMIN", "USER");
     private final List<String> USER_ROLES_STRING = List.of("USER");
 
+    //Role 조합 -> 공유해서 쓰는 불변 권한 목록
+        //Role 종류가 USER, ADMIN 뿐이라 조합도 몇개 없다. -> 조합마다 권한 목록을 한번만 만들어 두고 재사용
+        //매 요청마다 SimpleGrantedAuthority, ArrayList 생성, "ROLE_" + role 문자열 연결을 하지 않는다.
+    private final Map<List<String>, List<GrantedAuthority>> authoritiesByRoles = new ConcurrentHashMap<>();
+
+    public CustomAuthorityUtils() {
+        //DB에 저장되는 Role 조합은 미리 등록
+        authoritiesByRoles.put(ADMIN_ROLES_STRING, toAuthorities(ADMIN_ROLES_STRING));
+        authoritiesByRoles.put(USER_ROLES_STRING, USER_ROLES);
+    }
+
     //DB 저장용
     public List<String> createRoles(String email) {
         if(email.equals(adminMalAddress)) {
@@ -41,11 +57,20 @@ public class CustomAuthorityUtils {
     }
 
    //DB에 저장된 Role을 기반으로 권한 정보 생성
+        //등록된 Role 조합이면 미리 만들어 둔 권한 목록을 그대로 반환 (객체 생성 없음)
     public List<GrantedAuthority> createAuthorities(List<String> roles) {
-        List<GrantedAuthority> authorities = roles.stream()
+        List<GrantedAuthority> authorities = authoritiesByRoles.get(roles);
+        if (authorities != null) {
+            return authorities;
+        }
+        //처음 보는 조합만 등록 -> 파라미터로 받은 List 는 변경될 수 있어서 복사본을 key 로 사용
+        return authoritiesByRoles.computeIfAbsent(List.copyOf(roles), this::toAuthorities);
+    }
+
+    private List<GrantedAuthority> toAuthorities(List<String> roles) {
+        return roles.stream()
                 .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                .collect(Collectors.toList());
-        return authorities;
+                .collect(Collectors.toUnmodifiableList());
     }
 
 
@@ -0,0 +1,78 @@
+package com.springboot.board.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.board.dto.BoardDto;
+import com.springboot.event.BoardChangedEvent;
+import com.springboot.event.MemberWithdrawnEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.LongFunction;
+
+//게시글 단건 조회 캐시 (key : boardId)
+    //인기 질문은 수정보다 조회가 훨씬 많다. -> 조회마다 게시글 + 답변을 다시 읽고 응답으로 변환하지 않는다.
+    //응답(BoardDto.Response)과 작성한 회원 id 를 저장 -> 비밀글 권한 확인은 hit 때마다 BoardService 에서 한다.
+    //조회수, 좋아요 수는 캐시된 값(DB 에 반영된 값)에 아직 반영되지 않은 값을 조회 때마다 더해서 보여준다.
+//게시글이 변경(BoardChangedEvent)되고 트랜잭션이 커밋되면 해당 게시글을 캐시에서 제거
+    //최대 개수를 넘으면 W-TinyLFU(Caffeine 기본) 로 덜 조회되는 게시글부터 제거
+@Component
+public class BoardCache {
+    private final Cache<Long, CachedBoard> boards;
+
+    public BoardCache(MeterRegistry meterRegistry,
+                      @Value("${board.cache.maximum-size:10000}") long maximumSize,
+                      @Value("${board.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.boards = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        //hit ratio 등은 /actuator/metrics (cache.gets, cache=boards)
+        CaffeineCacheMetrics.monitor(meterRegistry, boards, "boards");
+    }
+
+    //캐시에 없으면 loader 로 조회해서 저장 (loader 가 null 을 반환하면 저장하지 않음)
+        //같은 게시글을 읽는 중에 제거 요청이 오면 읽기가 끝난 뒤 제거된다. -> 변경 전 데이터가 캐시에 남지 않는다.
+    public CachedBoard get(long boardId, LongFunction<CachedBoard> loader) {
+        return boards.get(boardId, loader::apply);
+    }
+
+    public void invalidate(long boardId) {
+        boards.invalidate(boardId);
+    }
+
+    //회원이 작성한 게시글 모두 제거 (게시글 상태를 한번에 변경했을 때 -> 변경된 boardId 를 모름)
+    public void invalidateWriter(long memberId) {
+        boards.asMap().values().removeIf(cachedBoard -> Long.valueOf(memberId).equals(cachedBoard.getWriterId()));
+    }
+
+    //게시글 변경 트랜잭션이 커밋된 후에 제거 -> 커밋 전 데이터가 다시 캐시되지 않도록
+        //트랜잭션 밖에서 발행되면(ViewCountBuffer flush) 바로 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        invalidate(event.getBoardId());
+    }
+
+    //회원 탈퇴가 커밋된 후 -> 비활성화된 게시글 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberWithdrawn(MemberWithdrawnEvent event) {
+        invalidateWriter(event.getMemberId());
+    }
+
+    //캐시에 저장되는 조회 결과 (불변)
+    @Getter
+    @AllArgsConstructor
+    public static class CachedBoard {
+        private final BoardDto.Response response;
+        //비밀글 권한 확인용
+        private final Long writerId;
+    }
+}
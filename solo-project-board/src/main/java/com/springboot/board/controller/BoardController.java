@@ -4,23 +4,34 @@ import com.springboot.board.dto.BoardDto;
 import com.springboot.board.entity.Board;
 import com.springboot.board.mapper.BoardMapper;
 import com.springboot.board.service.BoardService;
+import com.springboot.dto.CursorPage;
+import com.springboot.dto.CursorResponseDto;
+import com.springboot.dto.ImportResponseDto;
 import com.springboot.dto.MultiResponseDto;
 import com.springboot.dto.SingleResponseDto;
-import com.springboot.member.entity.Member;
+import com.springboot.like.service.LikeService;
+import com.springboot.member.cache.MemberSnapshot;
+import com.springboot.member.resolver.CurrentMember;
+import com.springboot.ndjson.BoardImportService;
+import com.springboot.ndjson.NdjsonExportService;
+import com.springboot.stats.service.BoardStatsService;
+import com.springboot.stats.service.TrendingRanker;
 import com.springboot.utils.UriCreator;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.util.List;
 
 @Controller
 @RequestMapping("/v11/boards")
@@ -28,60 +39,141 @@ public class BoardController {
     private final static String BOARD_DEFAULT_URL = "/v11/boards";
     private final BoardService boardService;
     private final BoardMapper mapper;
-
-    public BoardController(BoardService boardService, BoardMapper mapper) {
+    private final LikeService likeService;
+    private final BoardStatsService boardStatsService;
+    private final TrendingRanker trendingRanker;
+    private final NdjsonExportService ndjsonExportService;
+    private final BoardImportService boardImportService;
+
+    public BoardController(BoardService boardService, BoardMapper mapper, LikeService likeService,
+                           BoardStatsService boardStatsService, TrendingRanker trendingRanker,
+                           NdjsonExportService ndjsonExportService, BoardImportService boardImportService) {
         this.boardService = boardService;
         this.mapper = mapper;
+        this.likeService = likeService;
+        this.boardStatsService = boardStatsService;
+        this.trendingRanker = trendingRanker;
+        this.ndjsonExportService = ndjsonExportService;
+        this.boardImportService = boardImportService;
     }
 
     @PostMapping
     public ResponseEntity postBoard(@Valid @RequestBody BoardDto.Post postDto,
-                                    Authentication authentication) { //특정 회원의 정보를 가져올때 필요
+                                    @CurrentMember MemberSnapshot member) { //로그인 회원 (요청당 한번만 조회)
         //Dto -> Entity
-        postDto.setMemberId(boardService.findMemberId((String) authentication.getPrincipal()));
+        postDto.setMemberId(member.getMemberId());
 //        System.out.println(mapper.boardPostToBoard(postDto)); //오류 디버깅
         Board board = boardService.createBoard(mapper.boardPostToBoard(postDto));
         URI location = UriCreator.createUri(BOARD_DEFAULT_URL, board.getBoardId());
         return ResponseEntity.created(location).build();
     }
 
+    //게시글 일괄 등록 (관리자) : 요청 본문 한 줄에 게시글 하나 (BoardDto.Post JSON, NDJSON)
+        //실패한 줄은 건너뛰고 등록/실패 건수, 실패한 줄 번호와 이유를 응답
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity importBoards(InputStream body) throws IOException {
+        ImportResponseDto response = boardImportService.importBoards(body);
+
+        return new ResponseEntity<>(new SingleResponseDto<>(response), HttpStatus.OK);
+    }
+
     @PatchMapping("{board-id}")
     public ResponseEntity patchBoard(@Positive @PathVariable("board-id") long boardId,
-                                     @Valid @RequestBody BoardDto.Patch patchDto,
-                                     Authentication authentication) {
+                                     @Valid @RequestBody BoardDto.Patch patchDto) {
         patchDto.setBoardId(boardId);
-        Board board = boardService.updateBoard(mapper.boardPatchToBoard(patchDto), authentication);
+        Board board = boardService.updateBoard(mapper.boardPatchToBoard(patchDto));
 
         return new ResponseEntity<>(mapper.boardToBoardResponseDto(board), HttpStatus.OK);
     }
 
     @GetMapping("/{board-id}")
-    public ResponseEntity getBoard(@Positive @PathVariable("board-id") long boardId,
-                                   Authentication authentication) {
+    public ResponseEntity getBoard(@Positive @PathVariable("board-id") long boardId) {
 
-        Board board = boardService.findBoard(boardId, authentication);
+        //응답 변환까지 BoardService 에서 (캐시된 응답 사용)
+        BoardDto.Response response = boardService.findBoard(boardId);
         return new ResponseEntity<>(
-                new SingleResponseDto<>(mapper.boardToBoardResponseDto(board)), HttpStatus.OK
+                new SingleResponseDto<>(response), HttpStatus.OK
         );
 
     }
 
+    //cursor 파라미터가 있으면 keyset 방식 (첫 페이지는 cursor= 빈 값), 없으면 page 방식
+    //sort=created|likes|views, direction=desc|asc, status=게시글 상태 (없으면 삭제된 글 제외 전체)
     @GetMapping
-    public ResponseEntity getBoards(@Positive @RequestParam("page") int page,
-                                     @Positive @RequestParam("size") int size) {
+    public ResponseEntity getBoards(@Positive @RequestParam(value = "page", defaultValue = "1") int page,
+                                     @Positive @RequestParam("size") int size,
+                                     @RequestParam(value = "cursor", required = false) String cursor,
+                                     @RequestParam(value = "sort", defaultValue = "created") String sort,
+                                     @RequestParam(value = "direction", defaultValue = "desc") String direction,
+                                     @RequestParam(value = "status", required = false) String status) {
+        if (cursor != null) {
+            //COUNT 쿼리 없이 다음/이전 커서만 응답
+            CursorPage<BoardDto.Response> boardPage =
+                    boardService.findBoardsByCursor(cursor, size, sort, direction, status);
+            return new ResponseEntity<>(new CursorResponseDto<>(boardPage.getContent(), boardPage), HttpStatus.OK);
+        }
+
+        //목록은 조회 쿼리에서 바로 응답 DTO 로 만든다. (mapper X)
+        Page<BoardDto.Response> boardPage = boardService.findBoards(page-1, size, sort, direction, status);
+
+        return  new ResponseEntity<>(new MultiResponseDto<>(boardPage.getContent(), boardPage), HttpStatus.OK);
+
+    }
+
+    //제목, 내용 검색 : q=검색어 (여러 단어면 모든 단어를 포함한 글)
+    @GetMapping("/search")
+    public ResponseEntity searchBoards(@RequestParam("q") String keyword,
+                                       @Positive @RequestParam(value = "page", defaultValue = "1") int page,
+                                       @Positive @RequestParam("size") int size) {
+        Page<BoardDto.Response> boardPage = boardService.searchBoards(keyword, page-1, size);
+
+        return new ResponseEntity<>(new MultiResponseDto<>(boardPage.getContent(), boardPage), HttpStatus.OK);
+    }
+
+    //전체 게시글 내보내기 (관리자) : 한 줄에 게시글 하나씩 NDJSON 으로 스트리밍
+        //응답은 요청 스레드가 아닌 비동기 스레드에서 쓴다. (StreamingResponseBody)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBoards() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"boards.ndjson\"")
+                .body(ndjsonExportService::exportBoards);
+    }
 
-        Page<Board> boardPage = boardService.findBoards(page-1, size);
-        List<Board> boards = boardPage.getContent();
+    //인기글
+        //window=live (기본) : 시간이 지날수록 감소하는 점수 순 (메모리의 순위, DB 접근 없음)
+        //window=hour|day|week : 최근 기간 동안 조회수 + 좋아요가 많은 글 (시간 구간 통계에서 조회)
+        //size 는 1 ~ 100 (범위를 벗어나면 가까운 값으로)
+    @GetMapping("/trending")
+    public ResponseEntity getTrendingBoards(@RequestParam(value = "window", defaultValue = "live") String window,
+                                            @Positive @RequestParam(value = "size", defaultValue = "10") int size) {
+        if ("live".equalsIgnoreCase(window)) {
+            return new ResponseEntity<>(new SingleResponseDto<>(trendingRanker.top(size)), HttpStatus.OK);
+        }
+        return new ResponseEntity<>(
+                new SingleResponseDto<>(boardStatsService.findTrending(window, size)), HttpStatus.OK);
+    }
 
-        return  new ResponseEntity<>(
-                new MultiResponseDto<>(mapper.boardsToBoardsResponseDto(boards), boardPage), HttpStatus.OK);
+    //게시글 하나의 최근 window(hour|day|week) 조회수, 좋아요 증감 (분/시간/일 구간별)
+    @GetMapping("/{board-id}/stats")
+    public ResponseEntity getBoardStats(@Positive @PathVariable("board-id") long boardId,
+                                        @RequestParam(value = "window", defaultValue = "day") String window) {
+        return new ResponseEntity<>(
+                new SingleResponseDto<>(boardStatsService.findBoardStats(boardId, window)), HttpStatus.OK);
+    }
 
+    //좋아요 토글 : 좋아요한 상태면 취소, 아니면 좋아요 (1질문에 한번만 가능)
+    @PostMapping("/{board-id}/likes")
+    public ResponseEntity postLike(@Positive @PathVariable("board-id") long boardId,
+                                   @CurrentMember MemberSnapshot member) {
+        return new ResponseEntity<>(
+                new SingleResponseDto<>(likeService.toggleLike(boardId, member.getMemberId())), HttpStatus.OK);
     }
 
     @DeleteMapping("/{board-id}")
-    public ResponseEntity deleteBoard(@PathVariable("board-id") long boardId, Authentication authentication){
+    public ResponseEntity deleteBoard(@PathVariable("board-id") long boardId){
 
-        boardService.deleteBoard(boardId, authentication);
+        boardService.deleteBoard(boardId);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
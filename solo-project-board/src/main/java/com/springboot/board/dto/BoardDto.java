@@ -3,6 +3,7 @@ package com.springboot.board.dto;
 import com.springboot.board.entity.Board;
 import com.springboot.comment.dto.CommentDto;
 import com.springboot.comment.entity.Comment;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -55,7 +56,8 @@ public class BoardDto {
     }
 
     @Getter
-    @AllArgsConstructor
+    //전체 필드 생성자는 with... 메서드에서만 사용 -> mapper, JPQL 은 아래 목록 조회 생성자 사용
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
     public static class Response {
         private Long boardId;
         private String title;
@@ -67,5 +69,29 @@ public class BoardDto {
         private int viewCount;
         //좋아요 수
         private int likeCount;
+        //작성 시각 (최신순 목록의 정렬, 커서 기준)
+        private LocalDateTime createdAt;
+        //서로 다른 조회 회원 수 (HyperLogLog 추정값, 단건 조회에서만)
+        private Long uniqueViewers;
+
+        //목록 조회 projection : JPQL 에서 바로 생성 (select new ...) -> Board, Comment 엔티티를 만들지 않는다.
+            //조회 회원 수는 단건 조회에서 withCounts 로 채운다.
+        public Response(Long boardId, String title, String content, Board.BoardStatus boardStatus,
+                        Board.BoardPublicStatus publicStatus, String comment, int viewCount, int likeCount,
+                        LocalDateTime createdAt) {
+            this(boardId, title, content, boardStatus, publicStatus, comment, viewCount, likeCount, createdAt, null);
+        }
+
+        //캐시된 응답에 현재 조회수, 좋아요 수, 조회 회원 수를 적용한 새 응답
+        public Response withCounts(int viewCount, int likeCount, long uniqueViewers) {
+            return new Response(boardId, title, content, boardStatus, publicStatus, comment,
+                    viewCount, likeCount, createdAt, uniqueViewers);
+        }
+
+        //목록 응답에 shard 에 남아있는 좋아요 수를 더한 새 응답
+        public Response withLikeCount(int likeCount) {
+            return new Response(boardId, title, content, boardStatus, publicStatus, comment,
+                    viewCount, likeCount, createdAt, uniqueViewers);
+        }
     }
 }
@@ -3,12 +3,14 @@ package com.springboot.board.entity;
 
 import com.springboot.audit.Auditable;
 import com.springboot.comment.entity.Comment;
-import com.springboot.like.entity.Like;
 import com.springboot.member.entity.Member;
 import com.springboot.view.View;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -18,9 +20,24 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @Setter
+//목록 조회(정렬)용 인덱스 : 정렬 기준마다 (정렬 컬럼, board_id) 오름차순/내림차순 한 쌍
+    //-> WHERE board_status <> ? (또는 = ?) ORDER BY 정렬 컬럼, board_id 를 정렬 없이 인덱스 순서대로 읽으면서 상태로 걸러낸다.
+    //H2 는 인덱스를 역방향으로 읽지 못해서 정렬 방향마다 인덱스가 필요하다.
+@Table(indexes = {
+        @Index(name = "idx_board_created_at", columnList = "created_at, boardId"),
+        @Index(name = "idx_board_created_at_desc", columnList = "created_at desc, boardId desc"),
+        @Index(name = "idx_board_like_count", columnList = "likeCount, boardId"),
+        @Index(name = "idx_board_like_count_desc", columnList = "likeCount desc, boardId desc"),
+        @Index(name = "idx_board_view_count", columnList = "viewCount, boardId"),
+        @Index(name = "idx_board_view_count_desc", columnList = "viewCount desc, boardId desc")
+})
 public class Board extends Auditable {
+    //IDENTITY 는 INSERT 를 실행해야 id 를 알 수 있어서 Hibernate 가 INSERT 를 batch 로 묶지 못한다.
+        //-> 시퀀스에서 id 를 미리 받아두고 INSERT 는 flush 때 batch 로 실행 (PooledSequenceGenerator)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq")
+    @GenericGenerator(name = "board_seq", strategy = "com.springboot.config.PooledSequenceGenerator",
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "board_seq"))
     private Long boardId;
 
     @Column(nullable = false, length = 100)
@@ -40,14 +57,16 @@ public class Board extends Auditable {
     private BoardPublicStatus publicStatus;
 
     //외래키 : member는 여러 Board(질문)을 가질 수 있다.
-    @ManyToOne
+    //LAZY : 목록/단건 응답(BoardDto.Response)에는 회원 정보가 필요 없다. (작성자 확인은 memberId 만 사용 -> 프록시 초기화 X)
+    @ManyToOne(fetch = FetchType.LAZY)
 //    @JsonBackReference
     @JoinColumn(name = "member_id")
     private Member member;
 
 //(cascade = {CascadeType.PERSIST, CascadeType.REMOVE})
     //comment(답글) 과 1대1관계
-    @OneToOne
+    //LAZY : 답변이 필요한 조회는 fetch join / EntityGraph 로 Board 와 함께 조회 (BoardRepository)
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "comment_id")
     private Comment comment;
 //    = null; //get 할 때, 초기화가 안되어있어서 ClassCastException 발생
@@ -55,25 +74,19 @@ public class Board extends Auditable {
     @OneToMany(mappedBy = "board", cascade = {CascadeType.PERSIST, CascadeType.REMOVE})
     private List<View> views = new ArrayList<>();
 
-    @Column(nullable = false)
+    //조회수는 ViewCountBuffer 가 UPDATE 쿼리로만 반영한다.
+    //updatable = false : Board 엔티티를 저장할 때 오래된 조회수로 덮어쓰지 않도록
+    @Column(nullable = false, updatable = false)
     private int viewCount;
 
-    @Column(nullable = false)
+    //좋아요 수는 LikeService 가 UPDATE 쿼리로만 증감한다. (viewCount 와 같은 이유로 updatable = false)
+    @Column(nullable = false, updatable = false)
     private int likeCount;
 
     @Column(nullable = false)
     private boolean isNew;
 
 
-    //영속성 전이
-    //member가 가지지고있는 Board(this)가 아니라면, 추가(setBoards)
-    public void setMember(Member member) {
-        this.member = member;
-        if(!member.getBoards().contains(this)) {
-            member.setBoard(this);
-        }
-    }
-
     public void setIsNew () {
 
     }
@@ -111,14 +124,6 @@ public class Board extends Auditable {
         }
     }
 
-    public void increaseLike(Like like) {
-        likeCount ++;
-    }
-
-    public void decreaseLike(Like like) {
-        likeCount --;
-    }
-
 
 
 
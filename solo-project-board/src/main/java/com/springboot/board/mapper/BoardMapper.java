@@ -2,8 +2,11 @@ package com.springboot.board.mapper;
 
 import com.springboot.board.dto.BoardDto;
 import com.springboot.board.entity.Board;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.mapstruct.ReportingPolicy;
 
 import java.util.List;
@@ -17,8 +20,18 @@ public interface BoardMapper {
     Board boardPostToBoard(BoardDto.Post postDto);
     Board boardPatchToBoard(BoardDto.Patch patchDto);
     @Mapping(target = "comment", source = "comment.content")
+    //조회 회원 수는 BoardService 에서 (UniqueViewerCounter)
+    @Mapping(target = "uniqueViewers", ignore = true)
     BoardDto.Response boardToBoardResponseDto(Board board);
     List<BoardDto.Response> boardsToBoardsResponseDto(List<Board> boards);
 
+    //게시글 수정 : source 에서 null 이 아닌 제목, 내용, 공개 여부만 target(조회된 게시글)에 복사
+        //게시글 상태, 조회수/좋아요 수, 작성자, 답변은 수정 요청으로 바뀌지 않는다.
+    @BeanMapping(ignoreByDefault = true, nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "title")
+    @Mapping(target = "content")
+    @Mapping(target = "publicStatus")
+    void updateBoard(Board source, @MappingTarget Board target);
+
 }
 
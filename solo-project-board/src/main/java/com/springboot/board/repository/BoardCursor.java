@@ -0,0 +1,67 @@
+package com.springboot.board.repository;
+
+import com.springboot.board.dto.BoardDto;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+//keyset(seek) 페이지네이션 커서
+    //(정렬 기준, 정렬 방향, 정렬 기준 값, boardId) 를 Base64 로 인코딩한 문자열
+    //-> 클라이언트는 내용을 알 필요 없이 그대로 다시 보내면 된다.
+    //backward : 이전 페이지 방향으로 이동하는 커서인지 여부
+@Getter
+public class BoardCursor {
+    private static final String DELIMITER = "|";
+
+    private final BoardSort sort;
+    private final Sort.Direction direction;
+    //정렬 기준 값 (createdAt : LocalDateTime, likeCount/viewCount : Integer)
+    private final Object value;
+    private final long boardId;
+    private final boolean backward;
+
+    public BoardCursor(BoardSort sort, Sort.Direction direction, Object value, long boardId, boolean backward) {
+        this.sort = sort;
+        this.direction = direction;
+        this.value = value;
+        this.boardId = boardId;
+        this.backward = backward;
+    }
+
+    //board 위치를 가리키는 커서
+    public static BoardCursor of(BoardDto.Response board, BoardSort sort, Sort.Direction direction, boolean backward) {
+        return new BoardCursor(sort, direction, sort.getValue(board), board.getBoardId(), backward);
+    }
+
+    public String encode() {
+        String raw = sort.name() + DELIMITER + direction.name() + DELIMITER + value
+                + DELIMITER + boardId + DELIMITER + (backward ? "P" : "N");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    //잘못된 커서면 INVALID_CURSOR 예외
+    public static BoardCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = raw.split("\\|");
+            if (values.length != 5) {
+                throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+            }
+            BoardSort sort = BoardSort.valueOf(values[0]);
+            return new BoardCursor(sort, Sort.Direction.valueOf(values[1]), sort.parseValue(values[2]),
+                    Long.parseLong(values[3]), "P".equals(values[4]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    //커서를 만든 정렬 조건과 요청한 정렬 조건이 같은지
+    public boolean matches(BoardSort sort, Sort.Direction direction) {
+        return this.sort == sort && this.direction == direction;
+    }
+}
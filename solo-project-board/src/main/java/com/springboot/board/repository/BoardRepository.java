@@ -1,7 +1,103 @@
 package com.springboot.board.repository;
 
+import com.springboot.board.dto.BoardDto;
 import com.springboot.board.entity.Board;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface BoardRepository extends JpaRepository<Board, Long> {
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
+    //단건 조회 : 답변(comment)까지 쿼리 한번으로 조회 (BoardDto.Response 에 답변 내용 포함)
+    @EntityGraph(attributePaths = "comment")
+    Optional<Board> findWithCommentByBoardId(long boardId);
+
+    //ViewCountBuffer 에 누적된 조회수를 UPDATE 한번으로 반영 (Board 엔티티를 로딩하지 않음)
+    @Transactional
+    @Modifying
+    @Query("update Board b set b.viewCount = b.viewCount + :delta where b.boardId = :boardId")
+    int increaseViewCount(@Param("boardId") long boardId, @Param("delta") int delta);
+
+    //좋아요 수 증감을 UPDATE 한번으로 반영 (읽고 덮어쓰지 않음 -> 동시 요청에도 유실 X)
+    @Modifying
+    @Query("update Board b set b.likeCount = b.likeCount + :delta where b.boardId = :boardId")
+    int increaseLikeCount(@Param("boardId") long boardId, @Param("delta") int delta);
+
+    @Query("select b.likeCount from Board b where b.boardId = :boardId")
+    int findLikeCountByBoardId(@Param("boardId") long boardId);
+
+    @Query("select b.boardStatus from Board b where b.boardId = :boardId")
+    Optional<Board.BoardStatus> findBoardStatusByBoardId(@Param("boardId") long boardId);
+
+    //회원 탈퇴 시 게시글 비활성화 : Board 를 로딩하지 않고 UPDATE 한번 (삭제된 글은 삭제 상태 유지)
+    @Modifying
+    @Query("update Board b set b.boardStatus = :deactived " +
+            "where b.member.memberId = :memberId and b.boardStatus not in (:deactived, :deleted)")
+    int deactivateBoardsByMemberId(@Param("memberId") long memberId,
+                                   @Param("deactived") Board.BoardStatus deactived,
+                                   @Param("deleted") Board.BoardStatus deleted);
+
+    //나눠서 비활성화할 때 : boardId 가 afterBoardId 보다 큰 비활성화 대상 글의 id (pageable 크기만큼)
+    @Query("select b.boardId from Board b " +
+            "where b.member.memberId = :memberId and b.boardId > :afterBoardId " +
+            "and b.boardStatus not in (:deactived, :deleted) order by b.boardId")
+    List<Long> findBoardIdsToDeactivate(@Param("memberId") long memberId,
+                                        @Param("afterBoardId") long afterBoardId,
+                                        @Param("deactived") Board.BoardStatus deactived,
+                                        @Param("deleted") Board.BoardStatus deleted,
+                                        Pageable pageable);
+
+    @Modifying
+    @Query("update Board b set b.boardStatus = :deactived " +
+            "where b.boardId in :boardIds and b.boardStatus not in (:deactived, :deleted)")
+    int deactivateBoards(@Param("boardIds") Collection<Long> boardIds,
+                         @Param("deactived") Board.BoardStatus deactived,
+                         @Param("deleted") Board.BoardStatus deleted);
+
+    //검색 : 역색인(board_token)에서 검색어의 토큰을 모두 가진 게시글만 조회 (LIKE '%검색어%' 스캔 X)
+        //토큰 조건은 (token, board_id) 인덱스 범위 조회 -> 게시글 수가 늘어도 검색어 토큰이 가진 게시글 수만큼만 읽는다.
+        //삭제된 글 제외, 비밀글은 visibleStatuses 에 SECRET 이 있거나(관리자) 작성한 회원일 때만
+        //목록과 같이 응답 DTO 로 바로 조회
+    @Query(value = "select new com.springboot.board.dto.BoardDto$Response(" +
+            "b.boardId, b.title, b.content, b.boardStatus, b.publicStatus, c.content, " +
+            "b.viewCount, b.likeCount, b.createdAt) from Board b left join b.comment c " +
+            "where b.boardId in (" +
+            "select t.boardId from BoardToken t where t.token in :tokens " +
+            "group by t.boardId having count(t.token) = :tokenCount) " +
+            "and b.boardStatus <> :deleted " +
+            "and (b.publicStatus in :visibleStatuses or b.member.memberId = :memberId) " +
+            "order by b.boardId desc",
+            countQuery = "select count(b) from Board b " +
+            "where b.boardId in (" +
+            "select t.boardId from BoardToken t where t.token in :tokens " +
+            "group by t.boardId having count(t.token) = :tokenCount) " +
+            "and b.boardStatus <> :deleted " +
+            "and (b.publicStatus in :visibleStatuses or b.member.memberId = :memberId)")
+    Page<BoardDto.Response> searchBoards(@Param("tokens") Collection<String> tokens,
+                                         @Param("tokenCount") long tokenCount,
+                                         @Param("deleted") Board.BoardStatus deleted,
+                                         @Param("visibleStatuses") Collection<Board.BoardPublicStatus> visibleStatuses,
+                                         @Param("memberId") long memberId,
+                                         Pageable pageable);
+
+    //전체 내보내기 (NdjsonExportService) : forward-only 커서로 fetch size 만큼씩 읽는다. (트랜잭션 안에서 사용 후 close)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select new com.springboot.board.dto.BoardDto$Response(" +
+            "b.boardId, b.title, b.content, b.boardStatus, b.publicStatus, c.content, " +
+            "b.viewCount, b.likeCount, b.createdAt) from Board b left join b.comment c order by b.boardId")
+    Stream<BoardDto.Response> streamAllResponses();
 }
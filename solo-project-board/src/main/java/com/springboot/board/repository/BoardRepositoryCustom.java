@@ -0,0 +1,29 @@
+package com.springboot.board.repository;
+
+import com.springboot.board.dto.BoardDto;
+import com.springboot.board.entity.Board;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.List;
+
+//Spring Data 메서드 이름/JPQL 로 표현하기 어려운 조회 (구현 : BoardRepositoryImpl)
+    //statuses : 조회할 게시글 상태 (삭제된 글 제외 등), 결과는 항상 요청한 정렬 순서
+    //결과는 응답 DTO 로 바로 조회 (읽기 전용 목록 -> 엔티티, 변경 감지 스냅샷을 만들지 않는다.)
+public interface BoardRepositoryCustom {
+    //커서 다음(또는 이전) limit 건 조회 -> OFFSET, COUNT 없이 인덱스를 타고 바로 찾아간다.
+        //cursor 가 null 이면 첫 페이지
+    List<BoardDto.Response> findBoardsByCursor(Collection<Board.BoardStatus> statuses,
+                                               BoardSort sort,
+                                               Sort.Direction direction,
+                                               BoardCursor cursor,
+                                               int limit);
+
+    //page 방식 목록 조회 (pageable 의 Sort 는 사용하지 않음)
+    Page<BoardDto.Response> findBoards(Collection<Board.BoardStatus> statuses,
+                                       BoardSort sort,
+                                       Sort.Direction direction,
+                                       Pageable pageable);
+}
@@ -0,0 +1,129 @@
+package com.springboot.board.repository;
+
+import com.springboot.board.dto.BoardDto;
+import com.springboot.board.entity.Board;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+//목록 조회는 page, cursor 모두 쿼리 한번 : (정렬 컬럼, board_id) 인덱스를 정렬 방향대로 읽으면서 상태 조건으로 걸러낸다.
+    //기본 목록(삭제된 글 제외)은 board_status <> QUESTION_DELETE -> 전체 정렬 없이 인덱스 앞에서부터 limit 건
+    //board_status IN (...) 이나 (board_status, 정렬 컬럼) 인덱스로 상태마다 읽으면 상태가 여러 개일 때 전체 정렬이나 병합이 필요하다.
+public class BoardRepositoryImpl implements BoardRepositoryCustom {
+    //목록 응답 projection (BoardDto.Response 의 목록 조회 생성자)
+    static final String RESPONSE_SELECT = "select new com.springboot.board.dto.BoardDto$Response(" +
+            "b.boardId, b.title, b.content, b.boardStatus, b.publicStatus, c.content, " +
+            "b.viewCount, b.likeCount, b.createdAt) from Board b left join b.comment c";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<BoardDto.Response> findBoardsByCursor(Collection<Board.BoardStatus> statuses,
+                                                      BoardSort sort,
+                                                      Sort.Direction direction,
+                                                      BoardCursor cursor,
+                                                      int limit) {
+        boolean backward = cursor != null && cursor.isBackward();
+        //이전 페이지는 반대 방향으로 seek 한 뒤 결과를 뒤집는다.
+        boolean descending = direction.isDescending() != backward;
+        List<BoardDto.Response> boards = new ArrayList<>(seek(statuses, sort, descending, cursor, 0, limit));
+
+        if (backward) {
+            Collections.reverse(boards);
+        }
+        return boards;
+    }
+
+    @Override
+    public Page<BoardDto.Response> findBoards(Collection<Board.BoardStatus> statuses,
+                                              BoardSort sort,
+                                              Sort.Direction direction,
+                                              Pageable pageable) {
+        //offset 은 DB 에서 건너뛴다. -> 페이지 번호와 관계없이 응답 건수(size)만 메모리에 올린다.
+        List<BoardDto.Response> boards = seek(statuses, sort, direction.isDescending(), null,
+                (int) pageable.getOffset(), pageable.getPageSize());
+
+        //마지막 페이지처럼 전체 건수를 알 수 있으면 COUNT 쿼리 생략
+        StatusCondition condition = StatusCondition.of(statuses);
+        return PageableExecutionUtils.getPage(boards, pageable, () -> condition.bind(em.createQuery(
+                        "select count(b) from Board b where " + condition.jpql, Long.class))
+                .getSingleResult());
+    }
+
+    //(정렬 컬럼, boardId) 순서로 cursor 위치부터 조회
+    private List<BoardDto.Response> seek(Collection<Board.BoardStatus> statuses,
+                                         BoardSort sort,
+                                         boolean descending,
+                                         BoardCursor cursor,
+                                         int offset,
+                                         int limit) {
+        String comparison = descending ? "<" : ">";
+        String order = descending ? "desc" : "asc";
+        String property = "b." + sort.getProperty();
+
+        //응답에 필요한 컬럼만 DTO 로 조회 (select new) -> Board/Comment 엔티티, 영속성 컨텍스트 스냅샷을 만들지 않는다.
+            //답변(comment)은 left join 으로 내용만 -> 목록 응답의 답변 내용을 글마다 따로 조회하지 않는다. (N+1 X)
+        StatusCondition condition = StatusCondition.of(statuses);
+        StringBuilder jpql = new StringBuilder(RESPONSE_SELECT).append(" where ").append(condition.jpql);
+        if (cursor != null) {
+            //value <= :value : 인덱스 범위 조건 -> 커서 위치부터 바로 읽는다. (없으면 인덱스 처음부터 걸러냄)
+            jpql.append(" and ").append(property).append(' ').append(comparison).append("= :value")
+                    .append(" and (").append(property).append(' ').append(comparison).append(" :value")
+                    .append(" or b.boardId ").append(comparison).append(" :boardId)");
+        }
+        //ORDER BY 는 (정렬 컬럼, board_id) 인덱스와 같은 방향 -> 인덱스 순서 그대로 읽는다.
+        jpql.append(" order by ").append(property).append(' ').append(order)
+                .append(", b.boardId ").append(order);
+
+        TypedQuery<BoardDto.Response> query = condition.bind(em.createQuery(jpql.toString(), BoardDto.Response.class))
+                .setFirstResult(offset)
+                .setMaxResults(limit);
+        if (cursor != null) {
+            query.setParameter("value", cursor.getValue())
+                    .setParameter("boardId", cursor.getBoardId());
+        }
+        return query.getResultList();
+    }
+
+    //상태 조건 : 상태 하나면 =, 상태 하나만 빼면 <> (기본 목록), 그 외 IN
+        //<> 와 = 는 상태 인덱스 없이 정렬 인덱스를 읽으면서 걸러낸다.
+    private static final class StatusCondition {
+        private final String jpql;
+        private final String parameter;
+        private final Object value;
+
+        private StatusCondition(String jpql, String parameter, Object value) {
+            this.jpql = jpql;
+            this.parameter = parameter;
+            this.value = value;
+        }
+
+        private static StatusCondition of(Collection<Board.BoardStatus> statuses) {
+            Set<Board.BoardStatus> excluded = EnumSet.allOf(Board.BoardStatus.class);
+            excluded.removeAll(statuses);
+            if (statuses.size() == 1) {
+                return new StatusCondition("b.boardStatus = :status", "status", statuses.iterator().next());
+            }
+            if (excluded.size() == 1) {
+                return new StatusCondition("b.boardStatus <> :excluded", "excluded", excluded.iterator().next());
+            }
+            return new StatusCondition("b.boardStatus in :statuses", "statuses", statuses);
+        }
+
+        private <T> TypedQuery<T> bind(TypedQuery<T> query) {
+            return query.setParameter(parameter, value);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.springboot.board.repository;
+
+import com.springboot.board.dto.BoardDto;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+//게시글 목록 정렬 기준 : 최신글/오래된 글, 좋아요 많은/적은 순, 조회수 많은/적은 순
+    //각 정렬은 Board 의 (정렬 컬럼, board_id) 인덱스를 정렬 방향대로 탄다.
+public enum BoardSort {
+    CREATED("created", "createdAt", BoardDto.Response::getCreatedAt),
+    LIKES("likes", "likeCount", BoardDto.Response::getLikeCount),
+    VIEWS("views", "viewCount", BoardDto.Response::getViewCount);
+
+    //요청 파라미터 값 (sort=created|likes|views)
+    @Getter
+    private String parameter;
+
+    //정렬할 Board 필드
+    @Getter
+    private String property;
+
+    private Function<BoardDto.Response, Comparable> valueExtractor;
+
+    BoardSort(String parameter, String property, Function<BoardDto.Response, Comparable> valueExtractor) {
+        this.parameter = parameter;
+        this.property = property;
+        this.valueExtractor = valueExtractor;
+    }
+
+    public static BoardSort from(String parameter) {
+        for (BoardSort sort : values()) {
+            if (sort.parameter.equalsIgnoreCase(parameter)) {
+                return sort;
+            }
+        }
+        throw new BusinessLogicException(ExceptionCode.INVALID_SORT_CONDITION);
+    }
+
+    //board 의 정렬 기준 값
+    public Comparable getValue(BoardDto.Response board) {
+        return valueExtractor.apply(board);
+    }
+
+    //커서에 저장된 정렬 기준 값 복원
+    public Object parseValue(String value) {
+        if (this == CREATED) {
+            return LocalDateTime.parse(value);
+        }
+        return Integer.parseInt(value);
+    }
+}
@@ -0,0 +1,150 @@
+package com.springboot.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.board.cache.BoardCache;
+import com.springboot.board.entity.Board;
+import com.springboot.board.repository.BoardRepository;
+import com.springboot.event.MemberWithdrawnEvent;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+//회원 탈퇴 시 작성한 게시글 비활성화 (QUESTION_DEACTIVED)
+    //Board 를 하나씩 로딩해서 상태를 바꾸지 않고 UPDATE 쿼리로 처리 -> 게시글 수와 관계없이 엔티티 로딩 X
+    //async: false : 탈퇴 트랜잭션 안에서 UPDATE 한번 (탈퇴와 함께 커밋/롤백)
+    //async: true : 탈퇴가 커밋된 후 별도 스레드에서 chunk-size 건씩 나눠서 UPDATE (chunk 마다 커밋)
+        //게시글이 아주 많은 회원도 탈퇴 요청은 바로 끝나고, 한 트랜잭션이 많은 행의 lock 을 오래 잡지 않는다.
+        //진행 상황은 getProgress 로 조회 (GET /v11/members/{member-id}/board-deactivation, 작업이 시작된 후부터)
+@Slf4j
+@Component
+public class BoardDeactivationJob {
+    private final BoardRepository boardRepository;
+    private final BoardCache boardCache;
+    private final TransactionTemplate transactionTemplate;
+    //memberId 별 진행 상황 (완료 후 하루 동안 조회 가능)
+    private final Cache<Long, Progress> progresses = Caffeine.newBuilder()
+            .maximumSize(10000)
+            .expireAfterWrite(Duration.ofDays(1))
+            .build();
+
+    @Value("${board.deactivation.async:false}")
+    private boolean async;
+
+    @Value("${board.deactivation.chunk-size:500}")
+    private int chunkSize;
+
+    public BoardDeactivationJob(BoardRepository boardRepository, BoardCache boardCache,
+                                PlatformTransactionManager transactionManager) {
+        this.boardRepository = boardRepository;
+        this.boardCache = boardCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    //async: false -> 탈퇴 트랜잭션이 커밋되기 직전에 같은 트랜잭션에서 UPDATE 한번
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onMemberWithdrawn(MemberWithdrawnEvent event) {
+        if (!async) {
+            boardRepository.deactivateBoardsByMemberId(event.getMemberId(),
+                    Board.BoardStatus.QUESTION_DEACTIVED, Board.BoardStatus.QUESTION_DELETE);
+        }
+    }
+
+    //async: true -> 탈퇴가 커밋된 후 시작 (탈퇴가 롤백되면 시작하지 않음)
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMemberWithdrawnCommitted(MemberWithdrawnEvent event) {
+        if (async) {
+            deactivateInChunks(event.getMemberId());
+        }
+    }
+
+    //chunk-size 건씩 boardId 순서로 비활성화 (chunk 마다 커밋, 실패하면 FAILED 로 남기고 중단)
+    public Progress deactivateInChunks(long memberId) {
+        Progress progress = new Progress(memberId);
+        progresses.put(memberId, progress);
+        try {
+            long lastBoardId = 0;
+            while (true) {
+                List<Long> boardIds = boardRepository.findBoardIdsToDeactivate(memberId, lastBoardId,
+                        Board.BoardStatus.QUESTION_DEACTIVED, Board.BoardStatus.QUESTION_DELETE,
+                        PageRequest.of(0, chunkSize));
+                if (boardIds.isEmpty()) {
+                    break;
+                }
+                Integer deactivated = transactionTemplate.execute(status -> boardRepository.deactivateBoards(
+                        boardIds, Board.BoardStatus.QUESTION_DEACTIVED, Board.BoardStatus.QUESTION_DELETE));
+                progress.addDeactivated(deactivated == null ? 0 : deactivated);
+                //이미 캐시된 게시글이 비활성화 전 상태로 남지 않도록 chunk 마다 제거
+                boardCache.invalidateWriter(memberId);
+                lastBoardId = boardIds.get(boardIds.size() - 1);
+            }
+            progress.complete();
+        } catch (RuntimeException e) {
+            progress.fail();
+            log.error("# Board deactivation failed: memberId={}, deactivated={}",
+                    memberId, progress.getDeactivatedCount(), e);
+        }
+        return progress;
+    }
+
+    public Progress getProgress(long memberId) {
+        Progress progress = progresses.getIfPresent(memberId);
+        if (progress == null) {
+            throw new BusinessLogicException(ExceptionCode.DEACTIVATION_NOT_FOUND);
+        }
+        return progress;
+    }
+
+    //비활성화 진행 상황
+    @Getter
+    public static class Progress {
+        private final long memberId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile LocalDateTime finishedAt;
+        private volatile Status status = Status.RUNNING;
+        @Getter(AccessLevel.NONE)
+        private final AtomicLong deactivated = new AtomicLong();
+
+        public Progress(long memberId) {
+            this.memberId = memberId;
+        }
+
+        public long getDeactivatedCount() {
+            return deactivated.get();
+        }
+
+        void addDeactivated(long count) {
+            deactivated.addAndGet(count);
+        }
+
+        void complete() {
+            status = Status.COMPLETED;
+            finishedAt = LocalDateTime.now();
+        }
+
+        void fail() {
+            status = Status.FAILED;
+            finishedAt = LocalDateTime.now();
+        }
+
+        public enum Status {
+            RUNNING, COMPLETED, FAILED
+        }
+    }
+}
@@ -1,38 +1,86 @@
 package com.springboot.board.service;
 
+import com.springboot.board.cache.BoardCache;
+import com.springboot.board.dto.BoardDto;
 import com.springboot.board.entity.Board;
+import com.springboot.board.mapper.BoardMapper;
+import com.springboot.board.repository.BoardCursor;
 import com.springboot.board.repository.BoardRepository;
+import com.springboot.board.repository.BoardSort;
 import com.springboot.comment.repository.CommentRepository;
+import com.springboot.dto.CursorPage;
+import com.springboot.event.BoardChangedEvent;
+import com.springboot.event.BoardHiddenEvent;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
-import com.springboot.like.entity.Like;
-import com.springboot.like.repository.LikeRepository;
+import com.springboot.like.service.LikeCounter;
+import com.springboot.member.cache.MemberSnapshot;
 import com.springboot.member.entity.Member;
+import com.springboot.member.service.CurrentMemberService;
 import com.springboot.member.service.MemberService;
-import com.springboot.view.View;
-import com.springboot.view.ViewRepository;
+import com.springboot.search.service.BoardSearchIndexer;
+import com.springboot.search.service.BoardTokenizer;
+import com.springboot.stats.service.TrendingRanker;
+import com.springboot.view.ViewCountBuffer;
+import com.springboot.view.UniqueViewerCounter;
+import com.springboot.view.ViewEventQueue;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.security.core.Authentication;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Transactional
 @Service
 public class BoardService {
     private final BoardRepository boardRepository;
-    private final ViewRepository viewRepository;
-    private final LikeRepository likeRepository;
     private final MemberService memberService;
-
-
-    public BoardService(BoardRepository boardRepository, ViewRepository viewRepository, LikeRepository likeRepository, MemberService memberService, CommentRepository commentRepository) {
+    //요청당 한번만 조회되는 로그인 회원
+    private final CurrentMemberService currentMemberService;
+    //조회수 write-behind 버퍼
+    private final ViewCountBuffer viewCountBuffer;
+    //조회 기록(View) 이벤트 큐
+    private final ViewEventQueue viewEventQueue;
+    //서로 다른 조회 회원 수 (HyperLogLog)
+    private final UniqueViewerCounter uniqueViewerCounter;
+    //좋아요 수 (shard 에 기록된 좋아요 포함)
+    private final LikeCounter likeCounter;
+    //검색용 역색인 갱신
+    private final BoardSearchIndexer boardSearchIndexer;
+    //실시간 인기글 순위 (공개 게시글 조회 반영, 삭제/비밀글 전환 시 제거)
+    private final TrendingRanker trendingRanker;
+    //단건 조회 캐시 + 캐시 제거 이벤트 발행
+    private final BoardCache boardCache;
+    private final BoardMapper mapper;
+    private final ApplicationEventPublisher publisher;
+    //삭제 상태를 제외한 게시글 상태 (목록 기본 조회 조건)
+    private static final List<Board.BoardStatus> LISTABLE_STATUSES = List.of(
+            Board.BoardStatus.QUESTION_REGISTERED,
+            Board.BoardStatus.QUESTION_ANSWERED,
+            Board.BoardStatus.QUESTION_DEACTIVED);
+
+
+    public BoardService(BoardRepository boardRepository, MemberService memberService, CommentRepository commentRepository, CurrentMemberService currentMemberService, ViewCountBuffer viewCountBuffer, ViewEventQueue viewEventQueue, UniqueViewerCounter uniqueViewerCounter, LikeCounter likeCounter, BoardSearchIndexer boardSearchIndexer, TrendingRanker trendingRanker, BoardCache boardCache, BoardMapper mapper, ApplicationEventPublisher publisher) {
         this.boardRepository = boardRepository;
-        this.viewRepository = viewRepository;
-        this.likeRepository = likeRepository;
         this.memberService = memberService;
+        this.currentMemberService = currentMemberService;
+        this.viewCountBuffer = viewCountBuffer;
+        this.viewEventQueue = viewEventQueue;
+        this.uniqueViewerCounter = uniqueViewerCounter;
+        this.likeCounter = likeCounter;
+        this.boardSearchIndexer = boardSearchIndexer;
+        this.trendingRanker = trendingRanker;
+        this.boardCache = boardCache;
+        this.mapper = mapper;
+        this.publisher = publisher;
     }
 
     //board 생성
@@ -47,11 +95,14 @@ public class BoardService {
 //        Like like = new Like();
 //        board.setLike(like);
         //글이 등록되면 board를 repsitory에 save
-        return boardRepository.save(board);
+        Board savedBoard = boardRepository.save(board);
+        //검색 색인 추가 (같은 트랜잭션)
+        boardSearchIndexer.index(savedBoard);
+        return savedBoard;
 
     }
 
-    public Board updateBoard(Board board, Authentication authentication) {
+    public Board updateBoard(Board board) {
         //board(-> 수정사항이 담긴 데이터)와 동일한 id가 존재하는지 검증
         //기존에 DB에 저장된 데이터
         Board findBoard = findVerifiedBoard(board.getBoardId());
@@ -65,19 +116,22 @@ public class BoardService {
         //요구사항 4. 회원이 질문을 삭제할 경우, QUESTION_DELETE로 상태 변경되어야한다. -> deleteBoard 에서 실행
 
         //요구사항 1. 질문의 제목, 내용은 등록한 회원만 수정 가능
-        Member member =
-                memberService.findVerifiedMember(authentication.getPrincipal().toString());
+        MemberSnapshot member = currentMemberService.getCurrentMember();
 
         //글을 작성한 회원이 맞다면 수정 가능
         if (member.getMemberId().equals(findBoard.getMember().getMemberId())) {
-            //변경될 값이 null이 아니라면,
-            Optional.ofNullable(board.getTitle())
-                    //기존 DB에 있던 데이터에 변경
-                    .ifPresent(title -> findBoard.setTitle(title));
-            Optional.ofNullable(board.getContent())
-                    .ifPresent(content -> findBoard.setContent(content));
-            Optional.ofNullable(board.getPublicStatus())
-                    .ifPresent(publicStatus -> findBoard.setPublicStatus(publicStatus));
+            //변경될 값이 null이 아니라면, 기존 DB에 있던 데이터에 변경 (제목, 내용, 공개 여부)
+            mapper.updateBoard(board, findBoard);
+            //제목, 내용이 바뀌었다면 바뀐 토큰만 색인에 반영
+            if (board.getTitle() != null || board.getContent() != null) {
+                boardSearchIndexer.index(findBoard);
+            }
+            //비밀글은 인기글에 나오지 않는다. -> 커밋 후 순위에서 제거
+            if (findBoard.getPublicStatus() == Board.BoardPublicStatus.SECRET) {
+                publisher.publishEvent(new BoardHiddenEvent(this, findBoard.getBoardId()));
+            }
+            //커밋 후 캐시에서 제거
+            publisher.publishEvent(new BoardChangedEvent(this, findBoard.getBoardId()));
             return findBoard;
         }
 
@@ -86,51 +140,174 @@ public class BoardService {
 
     @Transactional
     //요구사항 1. 1건의 특정 질문은 회원과 관리자 모두 조회가능
-    public Board findBoard(Long boardId, Authentication authentication) {
-        //등록된 Board가 있다면 꺼내서 optionalBoard에 할당
-        Board findBoard = findVerifiedBoard(boardId);
-        //요구사항 2. 비밀글 상태의 경우, 등록한 회원과 관리자만 조회가능
-        boardSecretStatus(findBoard, authentication);
+    public BoardDto.Response findBoard(Long boardId) {
+        //캐시에 없을 때만 DB 에서 조회 (답변도 함께 조회) -> 응답으로 변환해서 캐시
+        BoardCache.CachedBoard cachedBoard = boardCache.get(boardId, id ->
+                boardRepository.findWithCommentByBoardId(id)
+                        .map(board -> new BoardCache.CachedBoard(
+                                mapper.boardToBoardResponseDto(board), board.getMember().getMemberId()))
+                        .orElse(null));
+        if (cachedBoard == null) {
+            throw new BusinessLogicException(ExceptionCode.BOARD_NOT_FOUND);
+        }
+        BoardDto.Response response = cachedBoard.getResponse();
+        //요구사항 2. 비밀글 상태의 경우, 등록한 회원과 관리자만 조회가능 -> 캐시 hit 여부와 관계없이 매번 확인
+        boardSecretStatus(response.getPublicStatus(), cachedBoard.getWriterId());
         //요구사항 4. 삭제한 질문은 조회할 수 없다.
-        boardStatusDelete(findBoard);
+        boardStatusDelete(response.getBoardStatus());
 
-        //조회수 : Board 조회 때마다, 조회수 1건 증가
-        increaseViewCount(findBoard, authentication);
+        //조회수 : Board 조회 때마다, 조회수 1건 증가 -> 버퍼에만 누적 (DB 저장 X)
+        increaseViewCount(boardId);
+        //공개 게시글만 실시간 인기글 점수에 반영 (메모리)
+        if (response.getPublicStatus() == Board.BoardPublicStatus.PUBLIC) {
+            trendingRanker.recordView(boardId, response.getTitle());
+        }
         //요구사항 3. 1건의 질문 조회 시, 해당 질문에 대한 답변이 존재한다면 답변도 함께 조회
-        int currentViewCount = findBoard.getViewCount();
-        findBoard.setViewCount(currentViewCount + 1);
-
-//        Board savedBoard = boardRepository.save(findBoard);
-        //좋아요 : Get 에서 좋아요 구현
-        //사용자가 직접 변경, 1질문에 한번만 가능
-        return boardRepository.save(findBoard);
+        //보여주는 조회수 = DB에 반영된 조회수(캐시된 값) + 아직 반영되지 않은 조회수
+            //DB 에 반영되면(flush) BoardChangedEvent 로 캐시에서 제거된다.
+        //좋아요 수도 아직 Board 에 옮겨지지 않은 shard 값을 더해서 보여준다.
+        //좋아요 : 사용자가 직접 변경, 1질문에 한번만 가능 (LikeService)
+        //서로 다른 조회 회원 수는 조회 이벤트가 저장될 때 갱신된 추정값 (메모리에 보관)
+        return response.withCounts(
+                response.getViewCount() + (int) viewCountBuffer.getPendingCount(boardId),
+                response.getLikeCount() + (int) likeCounter.getPendingCount(boardId),
+                uniqueViewerCounter.getUniqueViewers(boardId));
     }
 
     @Transactional(readOnly = true)
-    public Page<Board> findBoards(int page, int size) {
+    public Page<BoardDto.Response> findBoards(int page, int size, String sort, String direction, String status) {
         //요구사항 1. 일반 회원, 관리자 모두 조회 가능 -> 비밀글의 경우 목록에서 제외시키지말고 비밀글임을 알려줘야한다.
 
-        //요구사항 2. 삭제 상태가 아닌 질문만 조회 가능
-//        boardStatusDelete();
+        //요구사항 2. 삭제 상태가 아닌 질문만 조회 가능 -> 쿼리의 상태 조건으로 처리
         //요구사항 3. 답변이 존재한다면 각 질문에 대한 답변도 함꼐 조회 -> Board ResponseDto에 구현함
         //요구사항 4. 페이지네이션 처리가 되어 일정 건수 만큼 데이터만 조회할 수 있다,
         //조회 조건 정렬 : 최신글 순 / 오래된 글 순 / 좋아요 많은 순, 적은 순 / 조회수 많은 순, 적은 순
+            //sort=created|likes|views, direction=desc|asc
+        BoardSort boardSort = BoardSort.from(sort);
+        Sort.Direction sortDirection = toDirection(direction);
+        //정렬 값이 같으면 boardId 순서 -> 페이지 사이에 글이 중복/누락되지 않는다.
+        Page<BoardDto.Response> boards = boardRepository.findBoards(
+                listableStatuses(status), boardSort, sortDirection, PageRequest.of(page, size));
+        return withPendingLikeCounts(boards);
+    }
+
+    //keyset(seek) 방식 목록 조회 : OFFSET, COUNT(*) 없이 커서 위치부터 size 건 조회
+        //cursor 가 null(빈 값)이면 첫 페이지
+        //커서는 만들어질 때의 정렬 조건에서만 유효하다. (정렬 조건이 바뀌면 첫 페이지부터 다시 조회)
+    @Transactional(readOnly = true)
+    public CursorPage<BoardDto.Response> findBoardsByCursor(String cursor, int size, String sort, String direction, String status) {
+        BoardSort boardSort = BoardSort.from(sort);
+        Sort.Direction sortDirection = toDirection(direction);
+        BoardCursor boardCursor = (cursor == null || cursor.isBlank()) ? null : BoardCursor.decode(cursor);
+        if (boardCursor != null && !boardCursor.matches(boardSort, sortDirection)) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
 
+        //size + 1 건을 조회해서 다음(이전) 페이지가 있는지 확인
+        List<BoardDto.Response> boards = boardRepository.findBoardsByCursor(
+                listableStatuses(status), boardSort, sortDirection, boardCursor, size + 1);
+        boolean hasMore = boards.size() > size;
+        if (hasMore) {
+            //한 건 더 조회한 글은 응답에서 제외 (이전 페이지 방향이면 가장 앞의 글)
+            boards = boardCursor != null && boardCursor.isBackward()
+                    ? boards.subList(1, boards.size())
+                    : boards.subList(0, size);
+        }
+        if (boards.isEmpty()) {
+            return new CursorPage<>(boards, null, null);
+        }
 
-        return boardRepository.findAll(PageRequest.of(
-                page, size));
+        BoardDto.Response first = boards.get(0);
+        BoardDto.Response last = boards.get(boards.size() - 1);
+        boolean backward = boardCursor != null && boardCursor.isBackward();
+        //다음 페이지 : 정방향이면 더 조회된 글이 있을 때, 역방향이면 항상 (왔던 페이지가 있으니)
+        String nextCursor = (backward || hasMore)
+                ? BoardCursor.of(last, boardSort, sortDirection, false).encode() : null;
+        //이전 페이지 : 역방향이면 더 조회된 글이 있을 때, 정방향이면 첫 페이지가 아닐 때
+        String prevCursor = (backward ? hasMore : boardCursor != null)
+                ? BoardCursor.of(first, boardSort, sortDirection, true).encode() : null;
+
+        //커서는 DB 에 저장된 좋아요 수로 만들어야 하므로 커서를 만든 뒤에 더한다.
+        return new CursorPage<>(addPendingLikeCounts(boards), nextCursor, prevCursor);
     }
 
+    //제목, 내용 검색 : 검색어의 모든 토큰을 포함한 글을 최신순으로 조회
+        //삭제된 글은 제외, 비밀글은 작성한 회원과 관리자에게만 검색된다.
+    @Transactional(readOnly = true)
+    public Page<BoardDto.Response> searchBoards(String keyword, int page, int size) {
+        Set<String> tokens = BoardTokenizer.tokenize(keyword);
+        if (tokens.isEmpty()) {
+            return Page.empty(PageRequest.of(page, size));
+        }
+        MemberSnapshot member = currentMemberService.getCurrentMember();
+        List<Board.BoardPublicStatus> visibleStatuses = member.getRoles().contains("ADMIN")
+                ? List.of(Board.BoardPublicStatus.PUBLIC, Board.BoardPublicStatus.SECRET)
+                : List.of(Board.BoardPublicStatus.PUBLIC);
+
+        Page<BoardDto.Response> boards = boardRepository.searchBoards(tokens, tokens.size(),
+                Board.BoardStatus.QUESTION_DELETE, visibleStatuses, member.getMemberId(), PageRequest.of(page, size));
+        return withPendingLikeCounts(boards);
+    }
+
+    //page 목록의 좋아요 수에 shard 에 남아있는 좋아요 수를 더한 page
+    private Page<BoardDto.Response> withPendingLikeCounts(Page<BoardDto.Response> boards) {
+        return new PageImpl<>(addPendingLikeCounts(boards.getContent()), boards.getPageable(), boards.getTotalElements());
+    }
 
-    public void deleteBoard(long boardId, Authentication authentication) {
+    //목록의 좋아요 수에 shard 에 남아있는 좋아요 수를 더함 (쿼리 한번, shard 를 사용하지 않으면 쿼리 없음)
+        //응답 DTO 는 불변 -> 좋아요 수가 바뀐 글만 새 응답으로 바꾼 목록
+    private List<BoardDto.Response> addPendingLikeCounts(List<BoardDto.Response> boards) {
+        Map<Long, Long> pendingCounts = likeCounter.getPendingCounts(
+                boards.stream().map(BoardDto.Response::getBoardId).collect(Collectors.toList()));
+        if (pendingCounts.isEmpty()) {
+            return boards;
+        }
+        return boards.stream()
+                .map(board -> {
+                    Long pendingCount = pendingCounts.get(board.getBoardId());
+                    return pendingCount == null ? board : board.withLikeCount(board.getLikeCount() + pendingCount.intValue());
+                })
+                .collect(Collectors.toList());
+    }
+
+    //목록에서 조회할 게시글 상태
+        //status 가 없으면 삭제된 글을 제외한 전체, 있으면 해당 상태만 (삭제 상태는 조회 불가)
+    private List<Board.BoardStatus> listableStatuses(String status) {
+        if (status == null || status.isBlank()) {
+            return LISTABLE_STATUSES;
+        }
+        try {
+            Board.BoardStatus boardStatus = Board.BoardStatus.valueOf(status.toUpperCase());
+            if (boardStatus == Board.BoardStatus.QUESTION_DELETE) {
+                throw new BusinessLogicException(ExceptionCode.INVALID_SORT_CONDITION);
+            }
+            return List.of(boardStatus);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_SORT_CONDITION);
+        }
+    }
+
+    private Sort.Direction toDirection(String direction) {
+        return Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.INVALID_SORT_CONDITION));
+    }
+
+
+    public void deleteBoard(long boardId) {
         //등록되어있는 게시글인지 확인
         Board findBoard = findVerifiedBoard(boardId);
         //요구사항 1. 1건의 질문은 작성한 회원만 삭제할 수 있다.
-        findRegisteredMember(findBoard, authentication);
+        findRegisteredMember(findBoard);
         //요구사항 4. 이미 삭제된 질문은 삭제할 수 없다.
         boardStatusDelete(findBoard);
         //요구사항 3. 질문 삭제 시, 질문의 상태만 변경되어야 한다.
         findBoard.setBoardStatus(Board.BoardStatus.QUESTION_DELETE);
+        //삭제된 글은 검색되지 않는다. -> 색인에서 제거
+        boardSearchIndexer.remove(boardId);
+        //커밋 후 인기글에서도 제거
+        publisher.publishEvent(new BoardHiddenEvent(this, boardId));
+        //커밋 후 캐시에서 제거
+        publisher.publishEvent(new BoardChangedEvent(this, boardId));
 
         boardRepository.save(findBoard);
     }
@@ -144,25 +321,29 @@ public class BoardService {
     }
 
     //검증 로직: 게시글이 '비밀글' 상태인 경우 접근 제한 주기
-    public void boardSecretStatus(Board board, Authentication authentication) {
-        //등록된 Board를 findBoard에 담아줌
+    public void boardSecretStatus(Board board) {
+        //Board가 비공개 상태라면, 등록한 회원과 관리자만 조회가 가능하다.
+        boardSecretStatus(board.getPublicStatus(), board.getMember().getMemberId());
+    }
 
-        //글을 등록한 회원의 정보를 담은 Member를 생성
-        Member member = memberService.findVerifiedMember(authentication.getPrincipal().toString());
-//       getPrincipal()의 반환값이 사용자 주체정보(현재는 String -> Member로 강제 형변환 안됨
-//        Member member = (Member) authentication.getPrincipal();
+    //캐시된 게시글의 권한 확인 : 공개 여부와 작성한 회원 id 만 사용
+    private void boardSecretStatus(Board.BoardPublicStatus publicStatus, Long writerId) {
+        //로그인 회원 (요청당 한번만 조회)
+        MemberSnapshot member = currentMemberService.getCurrentMember();
 
-        //Board가 비공개 상태라면, 등록한 회원과 관리자만 조회가 가능하다.
-        if (board.getPublicStatus().equals(Board.BoardPublicStatus.SECRET)
-                && !member.getMemberId().equals(board.getMember().getMemberId())) {
+        if (publicStatus.equals(Board.BoardPublicStatus.SECRET)
+                && !member.getMemberId().equals(writerId)) {
             throw new BusinessLogicException(ExceptionCode.BOARD_UNAUTHORIZED);
         }
-
     }
 
     //검증 로직: 삭제된 게시글이라면 조회할 수 없다.
     public void boardStatusDelete(Board board) {
-        if (board.getBoardStatus().equals(Board.BoardStatus.QUESTION_DELETE)) {
+        boardStatusDelete(board.getBoardStatus());
+    }
+
+    private void boardStatusDelete(Board.BoardStatus boardStatus) {
+        if (boardStatus.equals(Board.BoardStatus.QUESTION_DELETE)) {
             throw new BusinessLogicException(ExceptionCode.BOARD_NOT_FOUND);
         }
     }
@@ -173,10 +354,9 @@ public class BoardService {
     }
 
     //작성한 회원만 접근가능
-    public void findRegisteredMember(Board board, Authentication authentication) {
+    public void findRegisteredMember(Board board) {
 //        Board findBoard = findVerifiedBoard(boardId);
-        Member member =
-                memberService.findVerifiedMember(authentication.getPrincipal().toString());
+        MemberSnapshot member = currentMemberService.getCurrentMember();
 
         if (!board.getMember().getMemberId().equals(member.getMemberId())) {
             throw new BusinessLogicException(ExceptionCode.BOARD_UNAUTHORIZED);
@@ -215,17 +395,15 @@ public class BoardService {
 //    }
 
     //ViewCount 구현 : 조회수 구현 로직
-    public void increaseViewCount(Board board, Authentication authentication) {
-        //검증된 Board를 파라미터로 받고, view의 board, viewCount 값 변경
-        Member member =
-                memberService.findVerifiedMember(authentication.getPrincipal().toString());
-
-        View view = new View();
-        view.setBoard(board);
-        view.setMember(member);
-
-        //DB 저장
-        viewRepository.save(view);
+    public void increaseViewCount(long boardId) {
+        //검증된 Board 의 id 를 파라미터로 받고, 조회한 회원 기준으로 조회수 증가
+            //boardSecretStatus 에서 조회한 회원을 그대로 사용 (추가 쿼리 없음)
+        MemberSnapshot member = currentMemberService.getCurrentMember();
+
+        //View 저장 + Board 저장 대신 메모리 버퍼에 누적 -> ViewCountBuffer 가 주기적으로 UPDATE
+        viewCountBuffer.increase(boardId, member.getMemberId());
+        //조회 기록은 큐에 이벤트만 넣는다. -> ViewEventConsumer 가 모아서 batch INSERT (조회 트랜잭션에서 INSERT X)
+        viewEventQueue.publish(boardId, member.getMemberId());
     }
 
     //최신글 구현 로직
@@ -239,30 +417,4 @@ public class BoardService {
 //        return board;
 //    }
 
-    //Like의 상태를
-    public void setLikeCount(long boardId, Authentication authentication) {
-        Board findBoard = findVerifiedBoard(boardId);
-        Long memberId = memberService.findMemberId(authentication.getPrincipal().toString());
-        //특정 회원이 해당 보드에 좋아요를 했는지 확인
-        Optional<Like> findLike = likeRepository.findByBoardIdAndMemberId(boardId, memberId);
-        Like like =  findLike.orElseThrow(
-                () -> new BusinessLogicException(ExceptionCode.LIKE_NOT_FOUND));
-
-        //데이터베이스에 이미 좋아요가 있으면 취소 해야해!
-        if(findLike.isPresent()) {
-            //이미 저장된 좋아요 삭제
-            likeRepository.delete(like);
-            //board의 likeCount -1 -> 저장
-            findBoard.decreaseLike(like);
-            boardRepository.save(findBoard);
-        } else {
-            //좋아요가 없으면 새로 저장하고
-            likeRepository.save(like);
-            //board의 likeCount +1 -> 저장
-            findBoard.increaseLike(like);
-            boardRepository.save(findBoard);
-        }
-
-    }
-
 }
\ No newline at end of file
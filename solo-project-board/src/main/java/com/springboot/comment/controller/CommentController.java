@@ -4,12 +4,12 @@ import com.springboot.comment.dto.CommentDto;
 import com.springboot.comment.entity.Comment;
 import com.springboot.comment.mapper.CommentMapper;
 import com.springboot.comment.service.CommentService;
+import com.springboot.member.cache.MemberSnapshot;
 import com.springboot.member.entity.Member;
-import com.springboot.member.service.MemberService;
+import com.springboot.member.resolver.CurrentMember;
 import com.springboot.utils.UriCreator;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
@@ -25,39 +25,35 @@ public class CommentController {
 //    private final static String COMMENT_DEFAULT_URL = "/v11/boards/{board-id}/comments";
     private final CommentService commentService;
     private final CommentMapper mapper;
-    private final MemberService memberService;
 
-    public CommentController(CommentService commentService, CommentMapper mapper,  MemberService memberService) {
+    public CommentController(CommentService commentService, CommentMapper mapper) {
         this.commentService = commentService;
         this.mapper = mapper;
-        this.memberService = memberService;
     }
 
     @PostMapping
     public ResponseEntity postComment (@Positive @PathVariable("board-id") long boardId,
                                        @Valid @RequestBody CommentDto.Post postDto,
-                                       Authentication authentication) {
-
-        postDto.setMemberId(memberService.findMemberId(authentication.getPrincipal().toString()));
-        commentService.createComment(boardId, mapper.commentPostDtoToComment(postDto), authentication);
+                                       @CurrentMember MemberSnapshot member) {
+        //로그인 회원 (요청당 한번만 조회 -> CommentService 에서 재사용)
+        postDto.setMemberId(member.getMemberId());
+        commentService.createComment(boardId, mapper.commentPostDtoToComment(postDto));
 
         return new ResponseEntity<>( HttpStatus.CREATED);
     }
 
     @PatchMapping
     public ResponseEntity patchComment (@Positive @PathVariable("board-id") long boardId,
-                                        @Valid @RequestBody CommentDto.Patch patchDto,
-                                        Authentication authentication) {
+                                        @Valid @RequestBody CommentDto.Patch patchDto) {
 
-        Comment comment = commentService.updateComment(boardId, mapper.commentPatchDtoToComment(patchDto), authentication);
+        Comment comment = commentService.updateComment(boardId, mapper.commentPatchDtoToComment(patchDto));
 
         return new ResponseEntity<>(mapper.commentToResponseDto(comment), HttpStatus.OK);
     }
 
     @DeleteMapping
-    public ResponseEntity deleteComment(@Positive @PathVariable("board-id") long boardId,
-                                        Authentication authentication) {
-        commentService.deleteComment(boardId, authentication);
+    public ResponseEntity deleteComment(@Positive @PathVariable("board-id") long boardId) {
+        commentService.deleteComment(boardId);
 
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
@@ -5,6 +5,9 @@ import com.springboot.member.entity.Member;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.*;
 
@@ -14,7 +17,9 @@ import javax.persistence.*;
 @NoArgsConstructor
 public class Comment extends Auditable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @GenericGenerator(name = "comment_seq", strategy = "com.springboot.config.PooledSequenceGenerator",
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "comment_seq"))
     private Long commentId;
 
     //답글 = 댓글 : title을 자동으로 생성한다고 해도 굳이 table로 가지고 있을 필요 없음
@@ -33,21 +38,11 @@ public class Comment extends Auditable {
     //member 중 관리자 권한이 있는 자만 작성 가능
     //관리자는 1개의 게시글에 1개의 답변을 달아줄 수 있다
     //여러 게시글에 답변을 달아줄수 있음
-    @ManyToOne
+    //LAZY : 게시글과 함께 답변을 조회할 때 작성자(관리자)와 권한 목록까지 조회하지 않도록
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
 
-    //Comment-Member 영속성전이
-    public void setMember(Member member) {
-        //Comment가 가지고있는 필드 member와 param으로 들어온 member가 같다고 설정
-        this.member = member;
-        //param으로 들어온 member가 Comment(this)를 가지고 있지 않다면
-        if(!member.getComments().contains(this)){
-            //추가
-            member.setComment(this);
-        }
-    }
-
 //    //요구사항 XXX ->  답변 삭제하면 상태만 변경
 //    public enum CommentStatus {
 //        COMMENT_REGISTERED("답변 등록"),
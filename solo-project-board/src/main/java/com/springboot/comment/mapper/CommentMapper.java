@@ -2,8 +2,11 @@ package com.springboot.comment.mapper;
 
 import com.springboot.comment.dto.CommentDto;
 import com.springboot.comment.entity.Comment;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.mapstruct.ReportingPolicy;
 
 import java.util.List;
@@ -15,4 +18,9 @@ public interface CommentMapper {
     Comment commentPatchDtoToComment(CommentDto.Patch patchDto);
     CommentDto.Response commentToResponseDto(Comment comment);
     List<Comment> commentsToResponseDtos(List<Comment> comments);
+
+    //답변 수정 : source 의 내용이 null 이 아니면 target(조회된 답변)에 복사
+    @BeanMapping(ignoreByDefault = true, nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "content")
+    void updateComment(Comment source, @MappingTarget Comment target);
 }
@@ -3,12 +3,15 @@ package com.springboot.comment.service;
 import com.springboot.board.entity.Board;
 import com.springboot.board.service.BoardService;
 import com.springboot.comment.entity.Comment;
+import com.springboot.comment.mapper.CommentMapper;
 import com.springboot.comment.repository.CommentRepository;
+import com.springboot.event.BoardChangedEvent;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
-import com.springboot.member.entity.Member;
+import com.springboot.member.cache.MemberSnapshot;
+import com.springboot.member.service.CurrentMemberService;
 import com.springboot.member.service.MemberService;
-import org.springframework.security.core.Authentication;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,21 +22,31 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final BoardService boardService;
     private final MemberService memberService;
-
-    public CommentService(CommentRepository commentRepository, BoardService boardService, MemberService memberService) {
+    //요청당 한번만 조회되는 로그인 회원
+    private final CurrentMemberService currentMemberService;
+    //답변이 바뀌면 게시글 조회 캐시에서 제거
+    private final ApplicationEventPublisher publisher;
+    //수정 요청의 null 이 아닌 값만 복사
+    private final CommentMapper mapper;
+
+    public CommentService(CommentRepository commentRepository, BoardService boardService, MemberService memberService, CurrentMemberService currentMemberService, ApplicationEventPublisher publisher, CommentMapper mapper) {
         this.commentRepository = commentRepository;
         this.boardService = boardService;
         this.memberService = memberService;
+        this.currentMemberService = currentMemberService;
+        this.publisher = publisher;
+        this.mapper = mapper;
     }
 
     @Transactional
-    public Comment createComment(Long boardId, Comment comment, Authentication authentication) {
+    public Comment createComment(Long boardId, Comment comment) {
 
         //comment를 등록할 Board를 꺼내서 findBoard에 할당
         Board findBoard = boardService.findVerifiedBoard(boardId);
 
         //요구사항 1. 관리자만 등록할 수 있다. -> SecurityConfiguration 작성
-        Member findMember = memberService.findVerifiedMember(authentication.getPrincipal().toString());
+            //컨트롤러에서 조회한 로그인 회원을 그대로 사용
+        MemberSnapshot findMember = currentMemberService.getCurrentMember();
         //요구사항 2. 답변은 관리자가 한건만 등록할 수 있다.
         memberService.roleAdmin(findMember);
         //-> 생성 후 Board 상태 Answer로 변경 -> 이 상태일 때는 추가적으로 작성 못하게 설정!
@@ -41,33 +54,36 @@ public class CommentService {
         cannotLeaveComment(findBoard, comment);
         //CommentStatus는 BoardStatus (Public / Secret) 와 같아야한다. ->
 
+        //커밋 후 게시글 캐시에서 제거 (답변, 게시글 상태 변경)
+        publisher.publishEvent(new BoardChangedEvent(this, boardId));
         return commentRepository.save(comment);
     }
 
     @Transactional
     //인자로 받은 comment는 Id가 null -> 변경될 content의 내용만 가지고 있다.
-    public Comment updateComment(Long boardId, Comment comment, Authentication authentication) {
+    public Comment updateComment(Long boardId, Comment comment) {
         //boardId로 해당 Board를 findBoard에 할당하고,
         Board findBoard = boardService.findVerifiedBoard(boardId);
         Comment findComment = findVerifiedComment(findBoard.getComment().getCommentId());
         //등록된 답변은 관리자만 수정할 수 있어야한다.
-        Member findMember = memberService.findVerifiedMember(authentication.getPrincipal().toString());
+        MemberSnapshot findMember = currentMemberService.getCurrentMember();
         memberService.roleAdmin(findMember);
 
 //        findComment.setMember(findMember);
 
-        Optional.ofNullable(comment.getContent())
-                .ifPresent(content -> findComment.setContent(content));
+        //변경될 내용이 null 이 아니라면 변경
+        mapper.updateComment(comment, findComment);
 
         Comment saveComment = commentRepository.save(findComment);
         findBoard.setComment(findComment);
+        publisher.publishEvent(new BoardChangedEvent(this, boardId));
 
         return saveComment;
     }
 
     @Transactional
-    public void deleteComment(long boardId, Authentication authentication){
-        Member findMember = memberService.findVerifiedMember(authentication.getPrincipal().toString());
+    public void deleteComment(long boardId){
+        MemberSnapshot findMember = currentMemberService.getCurrentMember();
         //Admin 만 삭제 가능
         memberService.roleAdmin(findMember);
         //등록된 Board 찾아서 Board의 Comment 상태 변경
@@ -85,6 +101,7 @@ public class CommentService {
 
         //DB에서 삭제
         commentRepository.delete(comment);
+        publisher.publishEvent(new BoardChangedEvent(this, boardId));
     }
 
     //검증로직 : CommentId로 등록된 comment 찾기
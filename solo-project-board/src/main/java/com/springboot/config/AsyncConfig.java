@@ -0,0 +1,68 @@
+package com.springboot.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+//@Async 메서드(회원가입 메일, 탈퇴 회원 게시글 비활성화)를 실행하는 스레드 풀
+    //큐 크기를 제한 -> 작업이 몰려도 대기 작업이 메모리에 무한히 쌓이지 않는다.
+    //큐까지 가득 차면 호출한 스레드에서 바로 실행 (작업을 버리지 않음)
+@Slf4j
+@EnableAsync
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+    @Value("${async.executor.core-pool-size:2}")
+    private int corePoolSize;
+
+    @Value("${async.executor.max-pool-size:4}")
+    private int maxPoolSize;
+
+    @Value("${async.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    //@Async 실행기는 빈으로 등록 -> 애플리케이션 종료 시 destroy() 가 호출되어 아래 종료 설정(작업 완료 대기)이 동작한다.
+    @Override
+    public Executor getAsyncExecutor() {
+        return asyncExecutor();
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor asyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("async-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        //정상 종료 시 진행 중인 작업이 끝날 때까지 기다린다.
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    //Executor 빈이 있으면 Spring Boot 가 applicationTaskExecutor 를 만들지 않는다.
+        //-> StreamingResponseBody(전체 내보내기) 를 쓰는 MVC 비동기 처리용 실행기를 spring.task.execution 설정으로 직접 등록
+    @Lazy
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("# Async task failed: {}", method.getName(), e);
+    }
+}
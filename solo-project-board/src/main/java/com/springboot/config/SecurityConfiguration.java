@@ -1,6 +1,7 @@
 package com.springboot.config;
 
 import com.springboot.auth.JwtTokenizer;
+import com.springboot.auth.VerifiedTokenCache;
 import com.springboot.auth.filter.JwtAuthenticationFilter;
 import com.springboot.auth.filter.JwtVerificationFilter;
 import com.springboot.auth.handler.MemberAuthenticationEntryPoint;
@@ -32,10 +33,13 @@ public class SecurityConfiguration {
     private final JwtTokenizer jwtTokenizer;
     //추가 : 권한 설정
     private final CustomAuthorityUtils authorityUtils;
+    //추가 : 검증된 토큰 캐시
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public SecurityConfiguration(JwtTokenizer jwtTokenizer, CustomAuthorityUtils authorityUtils) {
+    public SecurityConfiguration(JwtTokenizer jwtTokenizer, CustomAuthorityUtils authorityUtils, VerifiedTokenCache verifiedTokenCache) {
         this.jwtTokenizer = jwtTokenizer;
         this.authorityUtils = authorityUtils;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     //1. Spring Security 를 통한 보안 강화의 초기 (v1)
@@ -78,6 +82,10 @@ public class SecurityConfiguration {
                         .antMatchers(HttpMethod.POST, "/*/members").permitAll()
                         //.hasRole("USER") 회원 정보 수정은 해당 유저만 가능하다
                         .antMatchers(HttpMethod.PATCH, "/*/members/**").hasRole("USER")
+                        //전체 회원, 게시글 내보내기는 관리자만 가능하다 (/*/members/** 보다 먼저)
+                        .antMatchers(HttpMethod.GET, "/*/members/export", "/*/boards/export").hasRole("ADMIN")
+                        //게시글 일괄 등록은 관리자만 가능하다
+                        .antMatchers(HttpMethod.POST, "/*/boards/import").hasRole("ADMIN")
                         //.hasRole("ADMIN") 회원전체 조회는 관리자만 가능하다
                         .antMatchers(HttpMethod.GET, "/*/members").hasRole("ADMIN")
                         //.hasAnyRole("USER", "ADMIN") 특정회원 조회는 해당사용자, 관리자만 가능하다.
@@ -110,6 +118,8 @@ public class SecurityConfiguration {
                         //주문 취소는 회원, 관리자만 접근 가능
                         //회원은 주문취소가 가능한 때 취소할 수 있어야한다, 관리자는 업장 사정으로 주문을 받지 못하는 상황일 때 부득이하게 취소
                         .antMatchers(HttpMethod.DELETE,"/*/orders/*").hasAnyRole("USER", "ADMIN")
+                        //캐시 hit/miss 등 운영 지표는 관리자만 조회 가능
+                        .antMatchers("/actuator/metrics/**").hasRole("ADMIN")
                         //서버측으로 들어오는 모든 request에 대한 접근 허용
                         .anyRequest().permitAll()
                 );
@@ -158,7 +168,7 @@ public class SecurityConfiguration {
             jwtAuthenticationFilter.setAuthenticationFailureHandler(new MemberAuthenticationFailureHandler());
         //추가 : 권한설정
             //JwtVerificationFilter에서 사용되는 객체들을 생성자로 DI
-            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenizer, authorityUtils);
+            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenizer, authorityUtils, verifiedTokenCache);
             //JwtAuthenticationFilter를 Spring Security Filter Chain에 추가
             builder.addFilter(jwtAuthenticationFilter)
                 //추가 : 권한설정
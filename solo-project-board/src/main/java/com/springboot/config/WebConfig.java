@@ -0,0 +1,23 @@
+package com.springboot.config;
+
+import com.springboot.member.resolver.CurrentMemberArgumentResolver;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+    private final CurrentMemberArgumentResolver currentMemberArgumentResolver;
+
+    public WebConfig(CurrentMemberArgumentResolver currentMemberArgumentResolver) {
+        this.currentMemberArgumentResolver = currentMemberArgumentResolver;
+    }
+
+    //@CurrentMember 파라미터 처리 등록
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentMemberArgumentResolver);
+    }
+}
@@ -0,0 +1,16 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+//keyset 페이지네이션 조회 결과 (Page 대신 사용 -> COUNT 쿼리 없음)
+    //nextCursor, prevCursor : 다음/이전 페이지가 없으면 null
+@AllArgsConstructor
+@Getter
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private String prevCursor;
+}
@@ -0,0 +1,20 @@
+package com.springboot.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+
+//keyset 페이지네이션 응답 : PageInfo(totalElements, totalPages) 대신 다음/이전 커서
+@Getter
+public class CursorResponseDto<T> {
+    private List<T> data;
+    private String nextCursor;
+    private String prevCursor;
+
+    public CursorResponseDto(List<T> data, CursorPage<?> page) {
+        this.data = data;
+        this.nextCursor = page.getNextCursor();
+        this.prevCursor = page.getPrevCursor();
+    }
+}
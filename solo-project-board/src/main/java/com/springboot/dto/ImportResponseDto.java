@@ -0,0 +1,24 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+//일괄 등록 응답 : 등록/실패 건수와 실패한 줄의 번호, 이유
+    //failures 는 앞에서부터 최대 건수까지만 (failed 는 전체 실패 건수)
+@Getter
+@AllArgsConstructor
+public class ImportResponseDto {
+    private long imported;
+    private long failed;
+    private List<Failure> failures;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Failure {
+        //요청 본문의 줄 번호 (1부터)
+        private long line;
+        private String message;
+    }
+}
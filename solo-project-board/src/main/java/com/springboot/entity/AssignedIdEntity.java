@@ -0,0 +1,28 @@
+package com.springboot.entity;
+
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.MappedSuperclass;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Transient;
+
+//기본키를 직접 지정하는 엔티티 (BoardToken, BoardViewerSketch)
+    //id 가 있어도 새로 만든 엔티티는 새 엔티티로 본다. -> save 전에 같은 키를 SELECT(merge) 하지 않고 바로 INSERT
+    //조회되거나 저장된 뒤에는 기존 엔티티
+@MappedSuperclass
+public abstract class AssignedIdEntity<ID> implements Persistable<ID> {
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
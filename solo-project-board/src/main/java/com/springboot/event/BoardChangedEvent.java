@@ -0,0 +1,15 @@
+package com.springboot.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+//게시글(제목, 내용, 상태, 답변, DB 에 반영된 조회수/좋아요 수)이 변경되었을 때 발행 -> BoardCache 에서 해당 게시글 제거
+@Getter
+public class BoardChangedEvent extends ApplicationEvent {
+    private long boardId;
+
+    public BoardChangedEvent(Object source, long boardId) {
+        super(source);
+        this.boardId = boardId;
+    }
+}
@@ -0,0 +1,15 @@
+package com.springboot.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+//게시글이 비밀글로 변경되거나 삭제되었을 때 발행 -> 커밋 후 TrendingRanker 순위에서 제거
+@Getter
+public class BoardHiddenEvent extends ApplicationEvent {
+    private long boardId;
+
+    public BoardHiddenEvent(Object source, long boardId) {
+        super(source);
+        this.boardId = boardId;
+    }
+}
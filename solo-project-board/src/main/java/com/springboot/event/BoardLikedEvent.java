@@ -0,0 +1,17 @@
+package com.springboot.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+//좋아요 추가(+1)/취소(-1)가 실제로 반영되었을 때 발행 -> 커밋 후 BoardStatsRecorder 에 집계
+@Getter
+public class BoardLikedEvent extends ApplicationEvent {
+    private long boardId;
+    private int delta;
+
+    public BoardLikedEvent(Object source, long boardId, int delta) {
+        super(source);
+        this.boardId = boardId;
+        this.delta = delta;
+    }
+}
@@ -0,0 +1,17 @@
+package com.springboot.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+//회원 정보(상태, 권한 등)가 변경되었을 때 발행 -> MemberCache 에서 해당 회원 제거
+@Getter
+public class MemberChangedEvent extends ApplicationEvent {
+    private Long memberId;
+    private String email;
+
+    public MemberChangedEvent(Object source, Long memberId, String email) {
+        super(source);
+        this.memberId = memberId;
+        this.email = email;
+    }
+}
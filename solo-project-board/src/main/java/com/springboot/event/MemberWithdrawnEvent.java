@@ -0,0 +1,15 @@
+package com.springboot.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+//회원이 탈퇴했을 때 발행 -> BoardDeactivationJob 이 해당 회원의 게시글을 비활성화
+@Getter
+public class MemberWithdrawnEvent extends ApplicationEvent {
+    private long memberId;
+
+    public MemberWithdrawnEvent(Object source, long memberId) {
+        super(source);
+        this.memberId = memberId;
+    }
+}
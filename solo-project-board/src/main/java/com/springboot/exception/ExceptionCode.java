@@ -17,7 +17,12 @@ public enum ExceptionCode {
     ORDER_NOT_FOUND(404, "Order not found"),
     CANNOT_CHANGE_ORDER(403, "Order can not change"),
     NOT_IMPLEMENTATION(501, "Not Implementation"),
-    INVALID_MEMBER_STATUS(400, "Invalid member status");
+    INVALID_MEMBER_STATUS(400, "Invalid member status"),
+    INVALID_CURSOR(400, "Invalid cursor"),
+    INVALID_SORT_CONDITION(400, "Invalid sort condition"),
+    LIKE_CONFLICT(409, "Like request conflict"),
+    DEACTIVATION_NOT_FOUND(404, "Board deactivation not found"),
+    INVALID_STATS_WINDOW(400, "Invalid stats window");
 
     @Getter
     private int status;
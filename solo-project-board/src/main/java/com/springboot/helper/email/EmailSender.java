@@ -0,0 +1,16 @@
+package com.springboot.helper.email;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailSendException;
+import org.springframework.stereotype.Component;
+
+//회원가입 알림 메일 전송 (MemberRegistrationEventListener)
+    //메일 서버 설정(spring.mail.*)이 없으므로 메일을 보내지 않고 로그만 남긴다.
+    //실제 전송으로 바꿀 때 : JavaMailSender 로 보내고, 실패하면 MailSendException -> 가입한 회원 삭제
+@Slf4j
+@Component
+public class EmailSender {
+    public void sendEmail(String message) throws MailSendException {
+        log.info("# Send email: {}", message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.springboot.like.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+public class LikeDto {
+    @Getter
+    @AllArgsConstructor
+    public static class Response {
+        private Long boardId;
+        //요청 후 좋아요 상태 (true : 좋아요, false : 취소)
+        private boolean liked;
+        private int likeCount;
+    }
+}
@@ -0,0 +1,39 @@
+package com.springboot.like.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+//인기글 좋아요 수 분산 카운터 (like.counter.shard-count 가 2 이상일 때 사용)
+    //좋아요마다 Board 한 행을 UPDATE 하면 모든 요청이 그 행의 lock 을 기다린다.
+    //-> 좋아요 증감을 게시글당 여러 행(shard) 중 임의의 한 행에 기록해서 lock 을 나눈다.
+    //-> LikeShardCompactor 가 주기적으로 shard 의 합을 Board.likeCount 로 옮긴다.
+//board_id 는 외래키 없이 값만 저장 (게시글 행 lock 과 무관하게 기록)
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "board_like_shard")
+@IdClass(BoardLikeShard.ShardId.class)
+public class BoardLikeShard {
+    @Id
+    private Long boardId;
+
+    @Id
+    private Integer shard;
+
+    //아직 Board.likeCount 에 반영되지 않은 좋아요 증감
+    @Column(nullable = false)
+    private int delta;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class ShardId implements Serializable {
+        private Long boardId;
+        private Integer shard;
+    }
+}
@@ -0,0 +1,35 @@
+package com.springboot.like.entity;
+
+import com.springboot.board.entity.Board;
+import com.springboot.member.entity.Member;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import javax.persistence.*;
+
+//좋아요는 LikeRepository 의 INSERT/DELETE 쿼리로만 추가/취소한다. (엔티티를 조회해서 저장하지 않음)
+//(board_id, member_id) 유니크 : 회원은 한 게시글에 좋아요를 한번만 할 수 있다.
+    //동시에 같은 좋아요가 들어와도 DB 가 중복 저장을 막는다.
+@NoArgsConstructor
+@Getter
+@Entity
+@Table(name = "Love", uniqueConstraints = @UniqueConstraint(
+        name = "uk_love_board_member", columnNames = {"board_id", "member_id"}))
+public class Like {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "like_seq")
+    @GenericGenerator(name = "like_seq", strategy = "com.springboot.config.PooledSequenceGenerator",
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "like_seq"))
+    private Long likeId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id", nullable = false)
+    private Board board;
+}
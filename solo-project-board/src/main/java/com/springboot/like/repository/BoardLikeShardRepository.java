@@ -0,0 +1,31 @@
+package com.springboot.like.repository;
+
+import com.springboot.like.entity.BoardLikeShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BoardLikeShardRepository extends JpaRepository<BoardLikeShard, BoardLikeShard.ShardId> {
+    //shard 한 행에 증감 기록 (shard 행이 아직 없으면 0 -> LikeCounter 가 행을 만들고 다시 기록)
+    @Modifying
+    @Query("update BoardLikeShard s set s.delta = s.delta + :delta where s.boardId = :boardId and s.shard = :shard")
+    int addDelta(@Param("boardId") long boardId, @Param("shard") int shard, @Param("delta") int delta);
+
+    //아직 Board.likeCount 에 반영되지 않은 증감 합 (기본키 (board_id, shard) 범위 조회)
+    @Query("select coalesce(sum(s.delta), 0) from BoardLikeShard s where s.boardId = :boardId")
+    long sumDelta(@Param("boardId") long boardId);
+
+    //목록 조회용 : [boardId, 증감 합]
+    @Query("select s.boardId, sum(s.delta) from BoardLikeShard s where s.boardId in :boardIds " +
+            "group by s.boardId having sum(s.delta) <> 0")
+    List<Object[]> sumDeltas(@Param("boardIds") Collection<Long> boardIds);
+
+    @Query("select distinct s.boardId from BoardLikeShard s where s.delta <> 0")
+    List<Long> findBoardIdsToCompact();
+
+    List<BoardLikeShard> findByBoardIdAndDeltaNot(long boardId, int delta);
+}
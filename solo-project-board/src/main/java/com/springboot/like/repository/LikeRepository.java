@@ -2,9 +2,24 @@ package com.springboot.like.repository;
 
 import com.springboot.like.entity.Like;
 import org.springframework.data.jpa.repository.JpaRepository;
-
-import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
-    Optional<Like> findByBoardIdAndMemberId(long boardId, long memberId);
+    long countByBoard_BoardId(long boardId);
+
+    //좋아요 취소 : 삭제된 행 수 반환 (0 이면 좋아요하지 않은 상태)
+    @Modifying
+    @Query("delete from Like l where l.board.boardId = :boardId and l.member.memberId = :memberId")
+    int deleteLike(@Param("boardId") long boardId, @Param("memberId") long memberId);
+
+    //좋아요 : 없을 때만 추가하고 추가된 행 수 반환 (0 이면 이미 좋아요한 상태)
+        //조회 후 저장(read-check-write) 대신 INSERT 한번으로 확인 + 추가
+        //그래도 동시에 들어온 같은 좋아요는 (board_id, member_id) 유니크 제약조건이 막는다.
+    @Modifying
+    @Query(value = "insert into love (like_id, board_id, member_id) " +
+            "select next value for like_seq, :boardId, :memberId where not exists " +
+            "(select 1 from love where board_id = :boardId and member_id = :memberId)", nativeQuery = true)
+    int insertLike(@Param("boardId") long boardId, @Param("memberId") long memberId);
 }
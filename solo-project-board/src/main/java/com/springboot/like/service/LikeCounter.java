@@ -0,0 +1,113 @@
+package com.springboot.like.service;
+
+import com.springboot.board.repository.BoardRepository;
+import com.springboot.event.BoardChangedEvent;
+import com.springboot.like.entity.BoardLikeShard;
+import com.springboot.like.repository.BoardLikeShardRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+//게시글 좋아요 수 증감
+    //shard-count 1 : Board.likeCount 를 바로 UPDATE (likeCount = likeCount ± 1)
+    //shard-count 2 이상 : board_like_shard 의 임의의 shard 에 기록 -> 같은 게시글의 좋아요가 서로 다른 행 lock 을 잡는다.
+        //보여주는 좋아요 수 = Board.likeCount + 아직 옮겨지지 않은 shard 합 (getPendingCount)
+        //좋아요 순 정렬은 Board.likeCount 기준 (최대 compact-interval-ms 만큼 늦게 반영)
+@Component
+public class LikeCounter {
+    //shard 행 생성 (이미 있으면 0)
+    private static final String CREATE_SHARD = "insert into board_like_shard (board_id, shard, delta) " +
+            "select ?, ?, 0 where not exists (select 1 from board_like_shard where board_id = ? and shard = ?)";
+
+    private final BoardRepository boardRepository;
+    private final BoardLikeShardRepository shardRepository;
+    //Board.likeCount 가 바뀌면 게시글 조회 캐시에서 제거 (캐시된 좋아요 수 = Board.likeCount)
+    private final ApplicationEventPublisher publisher;
+    //shard 행 생성은 좋아요 요청의 트랜잭션(같은 커넥션)에서 JDBC 로 실행
+        //JPA 쿼리에서 기본키 중복이 나면 영속성 컨텍스트가 rollback-only 로 표시되어 좋아요 트랜잭션까지 롤백된다.
+    private final JdbcTemplate jdbcTemplate;
+
+    //게시글당 shard 수
+    @Value("${like.counter.shard-count:1}")
+    private int shardCount;
+
+    public LikeCounter(BoardRepository boardRepository, BoardLikeShardRepository shardRepository, ApplicationEventPublisher publisher, JdbcTemplate jdbcTemplate) {
+        this.boardRepository = boardRepository;
+        this.shardRepository = shardRepository;
+        this.publisher = publisher;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    //좋아요 추가/취소한 트랜잭션 안에서 호출
+    public void add(long boardId, int delta) {
+        if (!isSharded()) {
+            boardRepository.increaseLikeCount(boardId, delta);
+            publisher.publishEvent(new BoardChangedEvent(this, boardId));
+            return;
+        }
+
+        int shard = ThreadLocalRandom.current().nextInt(shardCount);
+        if (shardRepository.addDelta(boardId, shard, delta) == 0) {
+            //해당 shard 의 첫 기록 -> 같은 트랜잭션에서 shard 행을 만들고 다시 기록
+                //별도 트랜잭션(REQUIRES_NEW)은 요청마다 커넥션을 하나 더 빌려서 좋아요가 몰리면 pool 이 고갈된다.
+            try {
+                jdbcTemplate.update(CREATE_SHARD, boardId, shard, boardId, shard);
+            } catch (DataIntegrityViolationException e) {
+                //다른 요청이 같은 shard 를 먼저 만들었음 -> 만들어진 행에 기록
+            }
+            shardRepository.addDelta(boardId, shard, delta);
+        }
+    }
+
+    //아직 Board.likeCount 에 반영되지 않은 좋아요 수
+    public long getPendingCount(long boardId) {
+        return isSharded() ? shardRepository.sumDelta(boardId) : 0;
+    }
+
+    //목록 조회용 : 쿼리 한번으로 boardId 별 반영되지 않은 좋아요 수 (없는 게시글은 제외)
+    public Map<Long, Long> getPendingCounts(Collection<Long> boardIds) {
+        if (!isSharded() || boardIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Long> pendingCounts = new HashMap<>();
+        for (Object[] row : shardRepository.sumDeltas(boardIds)) {
+            pendingCounts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return pendingCounts;
+    }
+
+    public List<Long> findBoardIdsToCompact() {
+        return shardRepository.findBoardIdsToCompact();
+    }
+
+    //게시글 하나의 shard 합을 Board.likeCount 로 옮김
+        //읽은 값만큼 shard 에서 빼므로(delta = delta - 읽은 값) 그 사이에 들어온 좋아요도 유실되지 않는다.
+        //Board.likeCount 증가와 shard 차감은 한 트랜잭션 -> 중간에 실패해도 이중 반영 X
+    @Transactional
+    public long compact(long boardId) {
+        long total = 0;
+        for (BoardLikeShard shard : shardRepository.findByBoardIdAndDeltaNot(boardId, 0)) {
+            shardRepository.addDelta(boardId, shard.getShard(), -shard.getDelta());
+            total += shard.getDelta();
+        }
+        if (total != 0) {
+            boardRepository.increaseLikeCount(boardId, (int) total);
+            publisher.publishEvent(new BoardChangedEvent(this, boardId));
+        }
+        return total;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+}
@@ -0,0 +1,67 @@
+package com.springboot.like.service;
+
+import com.springboot.board.entity.Board;
+import com.springboot.board.repository.BoardRepository;
+import com.springboot.event.BoardLikedEvent;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.like.dto.LikeDto;
+import com.springboot.like.repository.LikeRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+//좋아요 토글 : 좋아요한 상태면 취소, 아니면 좋아요
+    //Love 행 추가/삭제와 Board.likeCount 증감을 한 트랜잭션에서 처리
+    //likeCount 는 실제로 추가/삭제된 행 수만큼만 DB 에서 증감 (likeCount = likeCount ± 1, LikeCounter)
+    //-> 동시에 좋아요가 몰려도 Board 를 읽고 덮어쓰지 않으므로 좋아요 수가 유실되지 않는다.
+//실제로 추가/삭제되었으면 BoardLikedEvent 발행 -> 커밋 후 시간 구간별 통계에 집계 (BoardStatsRecorder)
+@Transactional
+@Service
+public class LikeService {
+    private final LikeRepository likeRepository;
+    private final BoardRepository boardRepository;
+    private final LikeCounter likeCounter;
+    private final ApplicationEventPublisher publisher;
+
+    public LikeService(LikeRepository likeRepository, BoardRepository boardRepository, LikeCounter likeCounter,
+                       ApplicationEventPublisher publisher) {
+        this.likeRepository = likeRepository;
+        this.boardRepository = boardRepository;
+        this.likeCounter = likeCounter;
+        this.publisher = publisher;
+    }
+
+    public LikeDto.Response toggleLike(long boardId, long memberId) {
+        //삭제된 질문에는 좋아요할 수 없다.
+        Board.BoardStatus boardStatus = boardRepository.findBoardStatusByBoardId(boardId)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.BOARD_NOT_FOUND));
+        if (boardStatus == Board.BoardStatus.QUESTION_DELETE) {
+            throw new BusinessLogicException(ExceptionCode.BOARD_NOT_FOUND);
+        }
+
+        boolean liked;
+        //이미 좋아요한 상태라면 취소
+        if (likeRepository.deleteLike(boardId, memberId) > 0) {
+            likeCounter.add(boardId, -1);
+            publisher.publishEvent(new BoardLikedEvent(this, boardId, -1));
+            liked = false;
+        } else {
+            liked = true;
+            try {
+                //다른 요청이 먼저 좋아요를 커밋했다면 0 -> 좋아요 수 변경 없음
+                if (likeRepository.insertLike(boardId, memberId) > 0) {
+                    likeCounter.add(boardId, 1);
+                    publisher.publishEvent(new BoardLikedEvent(this, boardId, 1));
+                }
+            } catch (DataIntegrityViolationException e) {
+                //같은 회원의 좋아요가 동시에 추가되는 중 (유니크 제약조건 위반) -> 이 요청은 롤백
+                throw new BusinessLogicException(ExceptionCode.LIKE_CONFLICT);
+            }
+        }
+
+        int likeCount = boardRepository.findLikeCountByBoardId(boardId) + (int) likeCounter.getPendingCount(boardId);
+        return new LikeDto.Response(boardId, liked, likeCount);
+    }
+}
@@ -0,0 +1,29 @@
+package com.springboot.like.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+//board_like_shard 에 쌓인 좋아요 증감을 주기적으로 Board.likeCount 로 옮긴다. (게시글마다 별도 트랜잭션)
+    //shard-count 를 1 로 되돌려도 남은 shard 값은 계속 옮긴다.
+@Slf4j
+@Component
+public class LikeShardCompactor {
+    private final LikeCounter likeCounter;
+
+    public LikeShardCompactor(LikeCounter likeCounter) {
+        this.likeCounter = likeCounter;
+    }
+
+    @Scheduled(fixedDelayString = "${like.counter.compact-interval-ms:10000}")
+    public void compact() {
+        for (Long boardId : likeCounter.findBoardIdsToCompact()) {
+            try {
+                likeCounter.compact(boardId);
+            } catch (RuntimeException e) {
+                //실패한 게시글은 다음 주기에 다시 시도 (shard 값은 그대로 남아있음)
+                log.error("# Like shard compaction failed: boardId={}", boardId, e);
+            }
+        }
+    }
+}
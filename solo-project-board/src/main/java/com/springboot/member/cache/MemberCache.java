@@ -0,0 +1,84 @@
+package com.springboot.member.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.event.MemberChangedEvent;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+//회원 조회 캐시 (email, memberId 두 key)
+    //게시글/답변 권한 확인, 컨트롤러의 로그인 회원 조회마다 실행되던 MemberRepository.findByEmail 대신 사용
+//회원 정보가 변경(createMember, updateMember, deleteMember)되고 트랜잭션이 커밋되면 해당 회원을 캐시에서 제거
+    //각 캐시는 자기 key 로만 로드한다.
+    //로드 중에 다른 캐시에 put 하면 그 사이 실행된 invalidate 뒤에 이전 값이 저장돼 ttl 동안 남을 수 있다.
+@Component
+public class MemberCache {
+    private final MemberRepository memberRepository;
+    private final Cache<String, MemberSnapshot> membersByEmail;
+    private final Cache<Long, MemberSnapshot> membersById;
+
+    public MemberCache(MemberRepository memberRepository,
+                       MeterRegistry meterRegistry,
+                       @Value("${member.cache.maximum-size:10000}") long maximumSize,
+                       @Value("${member.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.membersByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.membersById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        //hit ratio 등은 /actuator/metrics (cache.gets, cache=membersByEmail / membersById)
+        CaffeineCacheMetrics.monitor(meterRegistry, membersByEmail, "membersByEmail");
+        CaffeineCacheMetrics.monitor(meterRegistry, membersById, "membersById");
+    }
+
+    //email 로 조회, 없는 회원이면 MEMBER_NOT_FOUND 예외 (없는 회원은 캐시하지 않음)
+    public MemberSnapshot getByEmail(String email) {
+        MemberSnapshot snapshot = membersByEmail.get(email,
+                key -> memberRepository.findByEmail(key).map(MemberSnapshot::of).orElse(null));
+        if (snapshot == null) {
+            throw new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND);
+        }
+        return snapshot;
+    }
+
+    //memberId 로 조회, 없는 회원이면 MEMBER_NOT_FOUND 예외
+    public MemberSnapshot getById(long memberId) {
+        MemberSnapshot snapshot = membersById.get(memberId,
+                key -> memberRepository.findById(key).map(MemberSnapshot::of).orElse(null));
+        if (snapshot == null) {
+            throw new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND);
+        }
+        return snapshot;
+    }
+
+    public void invalidate(Long memberId, String email) {
+        if (memberId != null) {
+            membersById.invalidate(memberId);
+        }
+        if (email != null) {
+            membersByEmail.invalidate(email);
+        }
+    }
+
+    //회원 정보 변경 트랜잭션이 커밋된 후에 제거 -> 커밋 전 데이터가 다시 캐시되지 않도록
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        invalidate(event.getMemberId(), event.getEmail());
+    }
+}
@@ -0,0 +1,28 @@
+package com.springboot.member.cache;
+
+import com.springboot.member.entity.Member;
+import lombok.Getter;
+
+import java.util.List;
+
+//권한 확인용 회원 정보 (불변)
+    //id, email, 상태, 권한만 가지고 있다. -> boards, comments, password 등은 가지고 있지 않음
+@Getter
+public class MemberSnapshot {
+    private final Long memberId;
+    private final String email;
+    private final Member.MemberStatus memberStatus;
+    private final List<String> roles;
+
+    private MemberSnapshot(Long memberId, String email, Member.MemberStatus memberStatus, List<String> roles) {
+        this.memberId = memberId;
+        this.email = email;
+        this.memberStatus = memberStatus;
+        this.roles = roles;
+    }
+
+    public static MemberSnapshot of(Member member) {
+        return new MemberSnapshot(member.getMemberId(), member.getEmail(),
+                member.getMemberStatus(), List.copyOf(member.getRoles()));
+    }
+}
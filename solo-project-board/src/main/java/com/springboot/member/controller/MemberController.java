@@ -1,18 +1,25 @@
 package com.springboot.member.controller;
 
+import com.springboot.board.service.BoardDeactivationJob;
 import com.springboot.dto.MultiResponseDto;
 import com.springboot.dto.SingleResponseDto;
+import com.springboot.member.cache.MemberSnapshot;
 import com.springboot.member.dto.MemberDto;
 import com.springboot.member.entity.Member;
 import com.springboot.member.mapper.MemberMapper;
+import com.springboot.member.resolver.CurrentMember;
 import com.springboot.member.service.MemberService;
+import com.springboot.ndjson.NdjsonExportService;
 import com.springboot.utils.UriCreator;
 import lombok.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
@@ -26,10 +33,16 @@ public class MemberController {
     private final static String MEMBER_DEFAULT_URL = "/v11/members";
     private final MemberService memberService;
     private final MemberMapper mapper;
+    //탈퇴 회원의 게시글 비활성화 진행 상황
+    private final BoardDeactivationJob boardDeactivationJob;
+    private final NdjsonExportService ndjsonExportService;
 
-    public MemberController(MemberService memberService, MemberMapper mapper) {
+    public MemberController(MemberService memberService, MemberMapper mapper, BoardDeactivationJob boardDeactivationJob,
+                            NdjsonExportService ndjsonExportService) {
         this.memberService = memberService;
         this.mapper = mapper;
+        this.boardDeactivationJob = boardDeactivationJob;
+        this.ndjsonExportService = ndjsonExportService;
     }
 
     @PostMapping
@@ -57,28 +70,43 @@ public class MemberController {
 
     @GetMapping("/{member-id}")
     public ResponseEntity getMember(@PathVariable("member-id") @Positive long memberId) {
-        Member member = memberService.findMember(memberId);
+        MemberDto.Response member = memberService.findMember(memberId);
 
-        return new ResponseEntity<>(
-                new SingleResponseDto<>(mapper.memberToMemberDtoResponse(member)), HttpStatus.OK);
+        return new ResponseEntity<>(new SingleResponseDto<>(member), HttpStatus.OK);
     }
 
     @GetMapping
     public ResponseEntity getMembers(@Positive @RequestParam("page") int page,
                                      @Positive @RequestParam("size") int size) {
-        Page<Member> members = memberService.findMembers(page-1 , size);
-//      mapper 에서 Entity -> ResponseDto 로 변경해야해서 List로 받음
-        //getContent() 가 List로 반환
-        List<Member> memberList = members.getContent();
+        //조회 쿼리에서 바로 ResponseDto 로 만든다. (Entity -> ResponseDto 변환 X)
+        Page<MemberDto.Response> members = memberService.findMembers(page-1 , size);
 
         return new ResponseEntity<>(
-                new MultiResponseDto<>(mapper.membersToMemberDtoResponses(memberList), members), HttpStatus.OK
+                new MultiResponseDto<>(members.getContent(), members), HttpStatus.OK
         );
     }
 
+    //전체 회원 내보내기 (관리자) : 한 줄에 회원 하나씩 NDJSON 으로 스트리밍
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"members.ndjson\"")
+                .body(ndjsonExportService::exportMembers);
+    }
+
     @DeleteMapping("/{member-id}")
     public ResponseEntity deleteMember(@PathVariable("member-id") @Positive long memberId) {
         memberService.deleteMember(memberId);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    //탈퇴 회원의 게시글 비활성화 진행 상황 (board.deactivation.async: true 일 때) -> 본인 또는 관리자만
+    @GetMapping("/{member-id}/board-deactivation")
+    public ResponseEntity getBoardDeactivation(@PathVariable("member-id") @Positive long memberId,
+                                               @CurrentMember MemberSnapshot member) {
+        memberService.checkSelfOrAdmin(member, memberId);
+        return new ResponseEntity<>(
+                new SingleResponseDto<>(boardDeactivationJob.getProgress(memberId)), HttpStatus.OK);
+    }
 }
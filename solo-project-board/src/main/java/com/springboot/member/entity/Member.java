@@ -1,12 +1,12 @@
 package com.springboot.member.entity;
 
-import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.springboot.audit.Auditable;
-import com.springboot.board.entity.Board;
-import com.springboot.comment.entity.Comment;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -18,7 +18,9 @@ import java.util.List;
 @NoArgsConstructor
 public class Member extends Auditable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @GenericGenerator(name = "member_seq", strategy = "com.springboot.config.PooledSequenceGenerator",
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "member_seq"))
     private Long memberId;
 
     @Column(nullable = false, unique = true, updatable = false)
@@ -41,14 +43,9 @@ public class Member extends Auditable {
     @ElementCollection(fetch = FetchType.EAGER)
     private List<String> roles = new ArrayList<>();
 
-    //양방향매핑 : member
-//    @JsonManagedReference
-    @OneToMany(mappedBy = "member", cascade = CascadeType.ALL)
-    private List<Board> boards = new ArrayList<>();
-
-    //양방향매핑 :Member-Comment
-    @OneToMany(mappedBy = "member", cascade = CascadeType.ALL)
-    private List<Comment> comments = new ArrayList<>();
+    //Member -> Board, Comment 방향 매핑(boards, comments)은 두지 않는다.
+        //회원이 쓴 글이 많을수록 글/답변 작성, 로그인 때마다 컬렉션 전체를 로딩하게 된다.
+        //회원의 글이 필요하면 BoardRepository 에서 memberId 로 조회 (탈퇴 시 비활성화 : BoardDeactivationJob)
 
     public enum MemberStatus {
         MEMBER_ACTIVE(1, "활동중"),
@@ -67,24 +64,5 @@ public class Member extends Auditable {
         }
     }
 
-    //Member-Board 영속성 전이
-    public void setBoard(Board board) {
-        //현재 객체(Member)가 갖고있는 List<Board>에도 새로운 board 추가
-        boards.add(board);
-        //board가 가지고 있는 멤버가 this(현재 객체 Member) 와 다르다면
-        if(board.getMember() != this) {
-            //board에 추가
-            board.setMember(this);
-        }
-    }
-    //Member-Comment 영속성 전이
-    public void setComment(Comment comment) {
-        //comment가 Member(this)의 memberId를 가지고있지 않으면 추가
-        if(comment.getMember().getMemberId() != this.memberId) {
-            comment.setMember(this);
-        }
-        comments.add(comment);
-    }
-
 }
 
@@ -2,7 +2,11 @@ package com.springboot.member.mapper;
 
 import com.springboot.member.dto.MemberDto;
 import com.springboot.member.entity.Member;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.mapstruct.ReportingPolicy;
 
 import java.util.List;
@@ -16,5 +20,13 @@ public interface MemberMapper {
     MemberDto.Response memberToMemberDtoResponse(Member member);
     List<MemberDto.Response> membersToMemberDtoResponses(List<Member> members);
 
+    //회원 정보 수정 : source 에서 null 이 아닌 값만 target(조회된 회원)에 복사 (컴파일 시 생성된 getter/setter 호출)
+        //수정 가능한 필드만 복사 -> id, email, 상태, 권한, 생성/수정 시각(Auditable)은 그대로
+    @BeanMapping(ignoreByDefault = true, nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "password")
+    @Mapping(target = "username")
+    @Mapping(target = "phone")
+    void updateMember(Member source, @MappingTarget Member target);
+
 }
 
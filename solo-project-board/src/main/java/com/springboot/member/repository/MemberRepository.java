@@ -1,11 +1,39 @@
 package com.springboot.member.repository;
 
+import com.springboot.member.dto.MemberDto;
 import com.springboot.member.entity.Member;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     //email로 member 조회
     Optional<Member> findByEmail (String email);
+
+    //회원 조회 응답 : 응답에 필요한 컬럼만 DTO 로 바로 조회 (select new)
+        //Member 엔티티를 만들지 않으므로 EAGER 로 설정된 roles 컬렉션도 조회하지 않는다.
+    @Query("select new com.springboot.member.dto.MemberDto$Response(" +
+            "m.memberId, m.email, m.username, m.phone, m.memberStatus) from Member m where m.memberId = :memberId")
+    Optional<MemberDto.Response> findResponseByMemberId(@Param("memberId") long memberId);
+
+    @Query(value = "select new com.springboot.member.dto.MemberDto$Response(" +
+            "m.memberId, m.email, m.username, m.phone, m.memberStatus) from Member m",
+            countQuery = "select count(m) from Member m")
+    Page<MemberDto.Response> findMemberResponses(Pageable pageable);
+
+    //전체 내보내기 (NdjsonExportService) : forward-only 커서로 fetch size 만큼씩 읽는다. (트랜잭션 안에서 사용 후 close)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select new com.springboot.member.dto.MemberDto$Response(" +
+            "m.memberId, m.email, m.username, m.phone, m.memberStatus) from Member m order by m.memberId")
+    Stream<MemberDto.Response> streamAllResponses();
 }
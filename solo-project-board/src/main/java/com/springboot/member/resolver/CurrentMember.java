@@ -0,0 +1,13 @@
+package com.springboot.member.resolver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+//컨트롤러 핸들러 메서드의 MemberSnapshot 파라미터에 로그인 회원을 주입
+    //ex) public ResponseEntity postBoard(..., @CurrentMember MemberSnapshot member)
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentMember {
+}
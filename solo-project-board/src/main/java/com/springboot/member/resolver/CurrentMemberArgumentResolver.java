@@ -0,0 +1,35 @@
+package com.springboot.member.resolver;
+
+import com.springboot.member.cache.MemberSnapshot;
+import com.springboot.member.service.CurrentMemberService;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+//@CurrentMember MemberSnapshot 파라미터 처리
+    //CurrentMemberService 를 통해 조회 -> 이후 서비스 계층에서 같은 회원을 조회해도 추가 쿼리가 없다.
+@Component
+public class CurrentMemberArgumentResolver implements HandlerMethodArgumentResolver {
+    private final CurrentMemberService currentMemberService;
+
+    public CurrentMemberArgumentResolver(CurrentMemberService currentMemberService) {
+        this.currentMemberService = currentMemberService;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentMember.class)
+                && MemberSnapshot.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+        return currentMemberService.getCurrentMember();
+    }
+}
@@ -0,0 +1,57 @@
+package com.springboot.member.service;
+
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.member.cache.MemberCache;
+import com.springboot.member.cache.MemberSnapshot;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+//현재 요청의 로그인 회원 조회
+    //한 요청 안에서 컨트롤러, BoardService, CommentService 가 같은 회원을 여러번 조회하던 것을
+    //요청당 한번만 조회하도록 request attribute 에 보관
+    //조회는 MemberCache 를 통해서 한다. -> 캐시에 있으면 DB 조회 없음
+//요청 밖(@Async, @Scheduled 등)에서 호출되면 보관하지 않고 매번 조회
+@Service
+public class CurrentMemberService {
+    private static final String CURRENT_MEMBER_ATTRIBUTE = CurrentMemberService.class.getName() + ".MEMBER";
+    private final MemberCache memberCache;
+
+    public CurrentMemberService(MemberCache memberCache) {
+        this.memberCache = memberCache;
+    }
+
+    //SecurityContext 에 저장된 인증 정보(email)의 회원
+    public MemberSnapshot getCurrentMember() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            MemberSnapshot cached =
+                    (MemberSnapshot) attributes.getAttribute(CURRENT_MEMBER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        String principal = getPrincipal();
+        if (principal == null) {
+            throw new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND);
+        }
+        MemberSnapshot member = memberCache.getByEmail(principal);
+        if (attributes != null) {
+            attributes.setAttribute(CURRENT_MEMBER_ATTRIBUTE, member, RequestAttributes.SCOPE_REQUEST);
+        }
+        return member;
+    }
+
+    //인증 정보가 없으면 null
+    private String getPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getPrincipal() == null) {
+            return null;
+        }
+        return authentication.getPrincipal().toString();
+    }
+}
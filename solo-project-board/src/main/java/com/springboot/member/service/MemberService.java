@@ -1,12 +1,17 @@
 package com.springboot.member.service;
 
 import com.springboot.auth.utils.CustomAuthorityUtils;
-import com.springboot.board.entity.Board;
 import com.springboot.comment.entity.Comment;
+import com.springboot.event.MemberChangedEvent;
 import com.springboot.event.MemberRegistrationApplicationEvent;
+import com.springboot.event.MemberWithdrawnEvent;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
+import com.springboot.member.cache.MemberCache;
+import com.springboot.member.cache.MemberSnapshot;
+import com.springboot.member.dto.MemberDto;
 import com.springboot.member.entity.Member;
+import com.springboot.member.mapper.MemberMapper;
 import com.springboot.member.repository.MemberRepository;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
@@ -32,12 +37,18 @@ public class MemberService {
     private final PasswordEncoder passwordEncoder;
    //관리자용 권한부여
     private final CustomAuthorityUtils authorityUtils;
+    //권한 확인용 회원 조회 캐시
+    private final MemberCache memberCache;
+    //수정 요청의 null 이 아닌 값만 복사
+    private final MemberMapper mapper;
 
-    public MemberService(MemberRepository memberRepository, ApplicationEventPublisher publisher, PasswordEncoder passwordEncoder, CustomAuthorityUtils authorityUtils) {
+    public MemberService(MemberRepository memberRepository, ApplicationEventPublisher publisher, PasswordEncoder passwordEncoder, CustomAuthorityUtils authorityUtils, MemberCache memberCache, MemberMapper mapper) {
         this.memberRepository = memberRepository;
         this.publisher = publisher;
         this.passwordEncoder = passwordEncoder;
         this.authorityUtils = authorityUtils;
+        this.memberCache = memberCache;
+        this.mapper = mapper;
     }
 
     //회원가입 1. 권한 부여
@@ -53,6 +64,8 @@ public class MemberService {
         //DB에 새로운 member 저장
         Member saveMember = memberRepository.save(member);
         publisher.publishEvent(new MemberRegistrationApplicationEvent(this, saveMember));
+        //커밋 후 캐시에서 제거
+        publisher.publishEvent(new MemberChangedEvent(this, saveMember.getMemberId(), saveMember.getEmail()));
         return saveMember;
     }
 
@@ -64,26 +77,25 @@ public class MemberService {
         //member 존재여부 확인
         Member findMember = findVerifiedMember(member.getMemberId());
 
-        Optional.ofNullable(member.getPassword())
-                .ifPresent(password -> findMember.setPassword(password));
-        Optional.ofNullable(member.getUsername())
-                .ifPresent(username -> findMember.setUsername(username));
-        Optional.ofNullable(member.getPhone())
-                .ifPresent(phone -> findMember.setPhone(phone));
+        //변경될 값(password, username, phone)이 null 이 아니라면 변경
+        mapper.updateMember(member, findMember);
+        //커밋 후 캐시에서 제거
+        publisher.publishEvent(new MemberChangedEvent(this, findMember.getMemberId(), findMember.getEmail()));
         //DB에 수정사항 저장
         return memberRepository.save(findMember);
     }
 
     //읽기전용
     @Transactional(readOnly = true)
-    public Member findMember(long memberId) {
-       //조회된 member 찾기
-        return findVerifiedMember(memberId);
+    public MemberDto.Response findMember(long memberId) {
+       //조회된 member 찾기 -> 엔티티 대신 응답 DTO 로 바로 조회
+        return memberRepository.findResponseByMemberId(memberId)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
     }
 
     @Transactional(readOnly = true)
-    public Page<Member> findMembers(int page, int size){
-       return memberRepository.findAll(PageRequest.of(
+    public Page<MemberDto.Response> findMembers(int page, int size){
+       return memberRepository.findMemberResponses(PageRequest.of(
                 page, size, Sort.by("memberId").descending()));
     }
 
@@ -97,14 +109,12 @@ public class MemberService {
         member.setMemberStatus(Member.MemberStatus.MEMBER_QUIT);
         //변경내용 저장
         memberRepository.save(member);
+        //커밋 후 캐시에서 제거 -> 탈퇴한 회원의 상태가 캐시에 남지 않도록
+        publisher.publishEvent(new MemberChangedEvent(this, member.getMemberId(), member.getEmail()));
 
         //memberStatus가 탈퇴 상태 -> board의 상태도 비활성화로 변경되어야 한다.
-        if(member.getMemberStatus().equals(Member.MemberStatus.MEMBER_QUIT)) {
-            //List로 들고있으니 스트림 돌아서 하나씩 매핑
-            member.getBoards().stream()
-                    .forEach(board -> board.setBoardStatus(Board.BoardStatus.QUESTION_DEACTIVED));
-
-        }
+            //member.getBoards() 를 하나씩 변경하지 않고 BoardDeactivationJob 이 UPDATE 쿼리로 처리
+        publisher.publishEvent(new MemberWithdrawnEvent(this, member.getMemberId()));
     }
     //검증 로직: 이메일 중복이 있는지 확인
     public void verifyExistsMember(String email) {
@@ -119,8 +129,8 @@ public class MemberService {
     }
 
     public Long findMemberId(String email) {
-        Member member = memberRepository.findByEmail(email).orElseThrow(
-                ()-> new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
+        //DB 대신 회원 캐시에서 조회
+        MemberSnapshot member = memberCache.getByEmail(email);
 
         return member.getMemberId();
 
@@ -135,27 +145,31 @@ public class MemberService {
                 () -> new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
     }
 
-    //검증 로직: 회원이 존재하는지 확인, 존재한다면 그 회원을 DB에서 꺼내와야해
-    public Member findVerifiedMember(String email) {
-        //Repository에서 찾기 -> Optional
-        //findMember에 DB에서 찾은 member를 담음
-        Optional<Member> findMember = memberRepository.findByEmail(email);
-        //findMember가 비어있으면 예외처리 -> orElseThrow 해서 true면 Optional이 벗겨지고 객체가됨
-        return findMember.orElseThrow(
-                () -> new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
+    //검증 로직: 회원이 존재하는지 확인
+        //id, 상태, 권한만 필요하니 DB 대신 회원 캐시에서 조회 (없는 회원이면 MEMBER_NOT_FOUND)
+    public MemberSnapshot findVerifiedMember(String email) {
+        return memberCache.getByEmail(email);
     }
     //검증로직 : 회원이 존재하는지, 글을 작성할 수 있는 상태인지 확인
     public void checkMemberStatus(long memberId) {
         //멤버가 존재하는지 확인, 없으면 member를 찾을 수 없다고 예외를 던짐
-        Member member = findVerifiedMember(memberId);
+            //상태만 확인하면 되니 DB 대신 회원 캐시에서 조회
+        MemberSnapshot member = memberCache.getById(memberId);
         //member가 탈퇴상태면 글을 작성할 수없다고 예외 던져
         if(!member.getMemberStatus().equals(Member.MemberStatus.MEMBER_ACTIVE)) {
             throw new BusinessLogicException(ExceptionCode.MEMBER_FORBIDDEN);
         }
     }
 
+    //검증 로직 : 본인 또는 관리자만 조회 가능
+    public void checkSelfOrAdmin(MemberSnapshot member, long memberId) {
+        if (!member.getMemberId().equals(memberId) && !member.getRoles().contains("ADMIN")) {
+            throw new BusinessLogicException(ExceptionCode.MEMBER_FORBIDDEN);
+        }
+    }
+
     //검증 로직 : 관리자만 수정 가능 -> 관리자인지 확인
-    public void roleAdmin(Member member) {
+    public void roleAdmin(MemberSnapshot member) {
        if(!member.getRoles().contains("ADMIN")) {
            throw new BusinessLogicException(ExceptionCode.MEMBER_FORBIDDEN);
        }
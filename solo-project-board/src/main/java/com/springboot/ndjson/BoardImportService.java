@@ -0,0 +1,217 @@
+package com.springboot.ndjson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.springboot.board.dto.BoardDto;
+import com.springboot.board.entity.Board;
+import com.springboot.dto.ImportResponseDto;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.member.entity.Member;
+import com.springboot.member.service.MemberService;
+import com.springboot.search.service.BoardSearchIndexer;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+//게시글 일괄 등록 : 요청 본문의 한 줄(BoardDto.Post JSON)이 게시글 하나 (NDJSON)
+    //본문을 한 줄씩 읽어서 chunk-size 건씩 등록 -> 요청 크기와 관계없이 메모리 사용량이 일정
+        //chunk 마다 영속성 컨텍스트를 비운다. (open-in-view 면 모든 chunk 가 요청의 EntityManager 하나를 같이 쓴다.)
+    //chunk 마다 트랜잭션 하나, INSERT 는 JDBC batch (Board 의 id 는 시퀀스에서 미리 받아온다.)
+    //잘못된 줄은 건너뛰고 줄 번호와 이유를 응답 (나머지 줄은 등록)
+@Slf4j
+@Service
+public class BoardImportService {
+    private final MemberService memberService;
+    private final BoardSearchIndexer boardSearchIndexer;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectReader reader;
+    //한 트랜잭션에서 등록할 게시글 수 (= JDBC batch 크기)
+    private final int chunkSize;
+    //응답에 포함할 최대 실패 줄 수
+    private final int maxReportedFailures;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public BoardImportService(MemberService memberService,
+                              BoardSearchIndexer boardSearchIndexer,
+                              TransactionTemplate transactionTemplate,
+                              Validator validator,
+                              ObjectMapper objectMapper,
+                              @Value("${import.chunk-size:500}") int chunkSize,
+                              @Value("${import.max-reported-failures:1000}") int maxReportedFailures) {
+        this.memberService = memberService;
+        this.boardSearchIndexer = boardSearchIndexer;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.reader = objectMapper.readerFor(BoardDto.Post.class);
+        this.chunkSize = chunkSize;
+        this.maxReportedFailures = maxReportedFailures;
+    }
+
+    public ImportResponseDto importBoards(InputStream in) throws IOException {
+        Result result = new Result();
+        //회원 상태는 회원마다 한번만 확인 (실패 이유, 등록 가능한 회원)
+        Map<Long, String> rejectedMembers = new HashMap<>();
+        Set<Long> activeMembers = new HashSet<>();
+        List<ImportLine> chunk = new ArrayList<>(chunkSize);
+
+        BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        long lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            String failure;
+            try {
+                BoardDto.Post post = reader.readValue(line);
+                failure = validate(post);
+                if (failure == null) {
+                    failure = checkMember(post.getMemberId(), activeMembers, rejectedMembers);
+                }
+                if (failure == null) {
+                    chunk.add(new ImportLine(lineNumber, post));
+                }
+            } catch (JsonProcessingException e) {
+                failure = "Invalid JSON";
+            }
+            if (failure != null) {
+                result.fail(lineNumber, failure);
+            }
+
+            if (chunk.size() == chunkSize) {
+                insert(chunk, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insert(chunk, result);
+        }
+
+        log.info("# Imported {} boards ({} failed)", result.imported, result.failed);
+        return new ImportResponseDto(result.imported, result.failed, result.failures);
+    }
+
+    //chunk 를 트랜잭션 하나로 등록 -> DB 오류로 실패하면 어느 줄인지 알 수 있도록 한 줄씩 다시 등록
+    private void insert(List<ImportLine> chunk, Result result) {
+        try {
+            persist(chunk);
+            result.imported += chunk.size();
+        } catch (RuntimeException e) {
+            for (ImportLine line : chunk) {
+                try {
+                    persist(List.of(line));
+                    result.imported++;
+                } catch (RuntimeException lineException) {
+                    result.fail(line.number, "Could not save board");
+                }
+            }
+        }
+    }
+
+    private void persist(List<ImportLine> lines) {
+        transactionTemplate.executeWithoutResult(status -> {
+            //이 트랜잭션의 INSERT 를 chunk 단위 batch 로
+            em.unwrap(Session.class).setJdbcBatchSize(chunkSize);
+
+            List<Board> boards = new ArrayList<>(lines.size());
+            for (ImportLine line : lines) {
+                Board board = new Board();
+                board.setTitle(line.post.getTitle());
+                board.setContent(line.post.getContent());
+                board.setPublicStatus(line.post.getPublicStatus());
+                //회원은 상태를 확인했으니 조회 없이 참조만
+                board.setMember(em.getReference(Member.class, line.post.getMemberId()));
+                em.persist(board);
+                boards.add(board);
+            }
+            //게시글 INSERT 를 모두 추가한 뒤 색인 INSERT -> 같은 테이블의 INSERT 가 이어져서 batch 하나로 묶인다.
+            for (Board board : boards) {
+                boardSearchIndexer.indexNew(board);
+            }
+            //커밋 전에 INSERT 하고 등록한 Board, 색인, 회원 프록시를 영속성 컨텍스트에서 제거
+                //-> 다음 chunk 의 flush 가 앞 chunk 의 엔티티까지 변경 감지하지 않는다.
+            em.flush();
+            em.clear();
+        });
+    }
+
+    //BoardDto.Post 검증 (POST /v11/boards 와 같은 조건) + 작성 회원, 공개 여부
+    private String validate(BoardDto.Post post) {
+        Set<ConstraintViolation<BoardDto.Post>> violations = validator.validate(post);
+        if (!violations.isEmpty()) {
+            return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(", "));
+        }
+        if (post.getMemberId() == null) {
+            return "memberId is required";
+        }
+        if (post.getPublicStatus() == null) {
+            return "publicStatus is required";
+        }
+        return null;
+    }
+
+    private String checkMember(long memberId, Set<Long> activeMembers, Map<Long, String> rejectedMembers) {
+        if (activeMembers.contains(memberId)) {
+            return null;
+        }
+        String rejected = rejectedMembers.get(memberId);
+        if (rejected != null) {
+            return rejected;
+        }
+        try {
+            memberService.checkMemberStatus(memberId);
+            activeMembers.add(memberId);
+            return null;
+        } catch (BusinessLogicException e) {
+            rejectedMembers.put(memberId, e.getMessage());
+            return e.getMessage();
+        }
+    }
+
+    private static class ImportLine {
+        private final long number;
+        private final BoardDto.Post post;
+
+        ImportLine(long number, BoardDto.Post post) {
+            this.number = number;
+            this.post = post;
+        }
+    }
+
+    private class Result {
+        private long imported;
+        private long failed;
+        private final List<ImportResponseDto.Failure> failures = new ArrayList<>();
+
+        void fail(long line, String message) {
+            failed++;
+            if (failures.size() < maxReportedFailures) {
+                failures.add(new ImportResponseDto.Failure(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.springboot.ndjson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.springboot.board.repository.BoardRepository;
+import com.springboot.member.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+//관리자 전체 내보내기 : 게시글/회원 전체를 NDJSON (한 줄에 JSON 하나) 으로 응답에 바로 쓴다.
+    //page 조회를 반복하지 않고 (COUNT, OFFSET X) forward-only 커서 하나로 처음부터 끝까지 읽는다.
+    //읽은 행은 바로 응답으로 쓰고 버린다. -> 전체 건수와 관계없이 메모리 사용량이 일정
+@Slf4j
+@Service
+public class NdjsonExportService {
+    private final BoardRepository boardRepository;
+    private final MemberRepository memberRepository;
+    //행마다 flush 하지 않음 -> 응답 버퍼가 찰 때만 전송
+    private final ObjectWriter writer;
+    //clear-interval 행마다 영속성 컨텍스트 비우기
+    private final int clearInterval;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public NdjsonExportService(BoardRepository boardRepository,
+                               MemberRepository memberRepository,
+                               ObjectMapper objectMapper,
+                               @Value("${export.clear-interval:1000}") int clearInterval) {
+        this.boardRepository = boardRepository;
+        this.memberRepository = memberRepository;
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.clearInterval = clearInterval;
+    }
+
+    //삭제, 비밀글을 포함한 전체 게시글 (boardId 순)
+    @Transactional(readOnly = true)
+    public long exportBoards(OutputStream out) {
+        try (Stream<?> boards = boardRepository.streamAllResponses()) {
+            return write(boards, out);
+        }
+    }
+
+    //탈퇴 회원을 포함한 전체 회원 (memberId 순)
+    @Transactional(readOnly = true)
+    public long exportMembers(OutputStream out) {
+        try (Stream<?> members = memberRepository.streamAllResponses()) {
+            return write(members, out);
+        }
+    }
+
+    //한 행을 JSON 한 줄로 쓰고 쓴 행 수를 반환
+    long write(Stream<?> rows, OutputStream out) {
+        long count = 0;
+        try (JsonGenerator generator = writer.getFactory().createGenerator(out)) {
+            //응답 스트림은 컨테이너가 닫는다.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            //JSON 사이의 기본 구분자(공백) 대신 줄바꿈만
+            generator.setRootValueSeparator(null);
+
+            Iterator<?> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                //DTO 조회라 관리되는 엔티티는 없지만, 커서를 오래 여는 동안 컨텍스트에 남는 것이 없도록
+                if (++count % clearInterval == 0) {
+                    em.clear();
+                }
+            }
+        } catch (IOException e) {
+            //클라이언트가 연결을 끊은 경우 등 -> 커서를 닫고 트랜잭션 종료
+            throw new UncheckedIOException(e);
+        }
+        log.info("# Exported {} rows", count);
+        return count;
+    }
+}
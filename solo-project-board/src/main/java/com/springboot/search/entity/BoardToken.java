@@ -0,0 +1,48 @@
+package com.springboot.search.entity;
+
+import com.springboot.entity.AssignedIdEntity;
+import com.springboot.search.service.BoardTokenizer;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+//게시글 검색용 역색인 : (토큰, 게시글) 한 쌍이 한 행
+    //idx_board_token_token (token, board_id) -> 토큰으로 게시글 목록을 인덱스 범위 조회 (LIKE '%검색어%' 전체 스캔 X)
+    //기본키는 (board_id, token) : Hibernate 는 @IdClass 의 컬럼을 이름 순으로 만든다.
+        //-> 수정/삭제 시 게시글의 토큰 조회, 삭제는 기본키 범위 조회 (board_id 인덱스를 따로 두지 않는다)
+//board_id 는 외래키 없이 값만 저장 (삭제된 게시글의 토큰은 BoardSearchIndexer 가 지운다)
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "board_token", indexes = @Index(name = "idx_board_token_token", columnList = "token, boardId"))
+@IdClass(BoardToken.TokenId.class)
+public class BoardToken extends AssignedIdEntity<BoardToken.TokenId> {
+    @Id
+    @Column(length = BoardTokenizer.MAX_TOKEN_LENGTH)
+    private String token;
+
+    @Id
+    private Long boardId;
+
+    public BoardToken(String token, Long boardId) {
+        this.token = token;
+        this.boardId = boardId;
+    }
+
+    @Override
+    public TokenId getId() {
+        return new TokenId(token, boardId);
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class TokenId implements Serializable {
+        private String token;
+        private Long boardId;
+    }
+}
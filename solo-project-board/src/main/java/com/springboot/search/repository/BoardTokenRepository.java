@@ -0,0 +1,23 @@
+package com.springboot.search.repository;
+
+import com.springboot.search.entity.BoardToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BoardTokenRepository extends JpaRepository<BoardToken, BoardToken.TokenId> {
+    @Query("select t.token from BoardToken t where t.boardId = :boardId")
+    List<String> findTokensByBoardId(@Param("boardId") long boardId);
+
+    @Modifying
+    @Query("delete from BoardToken t where t.boardId = :boardId and t.token in :tokens")
+    int deleteTokens(@Param("boardId") long boardId, @Param("tokens") Collection<String> tokens);
+
+    @Modifying
+    @Query("delete from BoardToken t where t.boardId = :boardId")
+    int deleteByBoardId(@Param("boardId") long boardId);
+}
@@ -0,0 +1,52 @@
+package com.springboot.search.service;
+
+import com.springboot.board.entity.Board;
+import com.springboot.search.entity.BoardToken;
+import com.springboot.search.repository.BoardTokenRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+//게시글 검색 역색인(board_token) 갱신
+    //BoardService 의 등록/수정/삭제 트랜잭션 안에서 호출 -> 게시글과 색인이 함께 커밋/롤백된다.
+@Component
+public class BoardSearchIndexer {
+    private final BoardTokenRepository boardTokenRepository;
+
+    public BoardSearchIndexer(BoardTokenRepository boardTokenRepository) {
+        this.boardTokenRepository = boardTokenRepository;
+    }
+
+    //등록, 수정 : 제목/본문의 토큰과 색인된 토큰을 비교해서 바뀐 토큰만 추가/삭제
+    public void index(Board board) {
+        Set<String> tokens = BoardTokenizer.tokenize(board.getTitle(), board.getContent());
+        Set<String> indexedTokens = new HashSet<>(boardTokenRepository.findTokensByBoardId(board.getBoardId()));
+
+        Set<String> removedTokens = new HashSet<>(indexedTokens);
+        removedTokens.removeAll(tokens);
+        if (!removedTokens.isEmpty()) {
+            boardTokenRepository.deleteTokens(board.getBoardId(), removedTokens);
+        }
+
+        List<BoardToken> addedTokens = tokens.stream()
+                .filter(token -> !indexedTokens.contains(token))
+                .map(token -> new BoardToken(token, board.getBoardId()))
+                .collect(Collectors.toList());
+        boardTokenRepository.saveAll(addedTokens);
+    }
+
+    //새 게시글 : 색인된 토큰이 없으므로 조회 없이 추가만 (일괄 등록)
+    public void indexNew(Board board) {
+        boardTokenRepository.saveAll(BoardTokenizer.tokenize(board.getTitle(), board.getContent()).stream()
+                .map(token -> new BoardToken(token, board.getBoardId()))
+                .collect(Collectors.toList()));
+    }
+
+    //삭제 : 검색되지 않도록 색인에서 제거
+    public void remove(long boardId) {
+        boardTokenRepository.deleteByBoardId(boardId);
+    }
+}
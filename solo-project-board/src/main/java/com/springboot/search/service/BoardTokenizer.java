@@ -0,0 +1,63 @@
+package com.springboot.search.service;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+//검색용 토큰 분리 (색인과 검색어에 같은 규칙 사용)
+    //영문/숫자 : 글자, 숫자가 아닌 문자로 나눈 단어 (소문자)
+    //한글 : 2글자씩 겹쳐 자른 bigram ("게시판" -> "게시", "시판") -> 조사가 붙은 단어도 검색된다.
+        //한 글자 단어는 그대로 (단어 안의 한 글자는 검색되지 않음)
+    //"spring부트" 처럼 섞인 단어는 한글/그 외 부분으로 나눠서 처리
+public final class BoardTokenizer {
+    public static final int MAX_TOKEN_LENGTH = 50;
+
+    private BoardTokenizer() {
+    }
+
+    public static Set<String> tokenize(String... texts) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            String lowerCase = text.toLowerCase(Locale.ROOT);
+            StringBuilder word = new StringBuilder();
+            boolean hangulWord = false;
+            for (int i = 0; i < lowerCase.length(); i++) {
+                char c = lowerCase.charAt(i);
+                if (!Character.isLetterOrDigit(c)) {
+                    addWord(word, hangulWord, tokens);
+                    continue;
+                }
+                boolean hangul = isHangul(c);
+                if (word.length() > 0 && hangul != hangulWord) {
+                    addWord(word, hangulWord, tokens);
+                }
+                hangulWord = hangul;
+                word.append(c);
+            }
+            addWord(word, hangulWord, tokens);
+        }
+        return tokens;
+    }
+
+    //word 를 토큰으로 추가하고 비움
+    private static void addWord(StringBuilder word, boolean hangul, Set<String> tokens) {
+        if (word.length() == 0) {
+            return;
+        }
+        if (hangul && word.length() > 1) {
+            for (int i = 0; i < word.length() - 1; i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        } else {
+            tokens.add(word.length() > MAX_TOKEN_LENGTH ? word.substring(0, MAX_TOKEN_LENGTH) : word.toString());
+        }
+        word.setLength(0);
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
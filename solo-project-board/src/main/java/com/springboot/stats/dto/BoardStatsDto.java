@@ -0,0 +1,47 @@
+package com.springboot.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BoardStatsDto {
+    //인기글 한 건 : 기간 동안의 조회수, 좋아요 증감
+    @Getter
+    @AllArgsConstructor
+    public static class Trending {
+        private Long boardId;
+        private String title;
+        private long viewCount;
+        private long likeCount;
+    }
+
+    //실시간 인기글 한 건 : 현재 시각 기준 감소된 점수 (TrendingRanker)
+    @Getter
+    @AllArgsConstructor
+    public static class Ranked {
+        private Long boardId;
+        private String title;
+        private double score;
+    }
+
+    //게시글 통계 : 기간 합계 + 구간별 값 (기록이 없는 구간은 제외)
+    @Getter
+    @AllArgsConstructor
+    public static class Response {
+        private Long boardId;
+        private String window;
+        private long viewCount;
+        private long likeCount;
+        private List<Bucket> buckets;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Bucket {
+        private LocalDateTime bucketStart;
+        private long viewCount;
+        private long likeCount;
+    }
+}
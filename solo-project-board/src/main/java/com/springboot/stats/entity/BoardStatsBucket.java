@@ -0,0 +1,74 @@
+package com.springboot.stats.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+//게시글별 시간 구간(분/시간/일)의 조회수, 좋아요 증감 합
+    //MINUTE : BoardStatsRecorder 가 flush 할 때마다 더한다.
+    //HOUR, DAY : BoardStatsRollup 이 한 단계 작은 구간의 합으로 다시 계산한다.
+    //-> 인기글, 게시글 통계를 View/Love 행 대신 구간 수(최대 60/24/N 개)만큼만 읽어서 계산
+//board_id 는 외래키 없이 값만 저장 (BoardLikeShard 와 같음)
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "board_stats_bucket", indexes = @Index(
+        name = "idx_board_stats_bucket_granularity_start", columnList = "granularity, bucketStart"))
+@IdClass(BoardStatsBucket.BucketId.class)
+public class BoardStatsBucket {
+    @Id
+    private Long boardId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private Granularity granularity;
+
+    //구간 시작 시각 (granularity 단위로 자른 값)
+    @Id
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private long viewCount;
+
+    //좋아요 - 좋아요 취소
+    @Column(nullable = false)
+    private long likeCount;
+
+    public enum Granularity {
+        MINUTE(ChronoUnit.MINUTES),
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        //time 이 속한 구간의 시작 시각
+        public LocalDateTime truncate(LocalDateTime time) {
+            return time.truncatedTo(unit);
+        }
+
+        public Duration getDuration() {
+            return unit.getDuration();
+        }
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class BucketId implements Serializable {
+        private Long boardId;
+        private Granularity granularity;
+        private LocalDateTime bucketStart;
+    }
+}
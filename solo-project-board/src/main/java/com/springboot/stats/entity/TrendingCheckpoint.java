@@ -0,0 +1,31 @@
+package com.springboot.stats.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+//인기글 순위(TrendingRanker) checkpoint : 재시작 시 순위를 이어서 계산하기 위해 주기적으로 저장
+    //저장은 TrendingRanker 가 JDBC batch 로 (테이블 전체를 지우고 다시 저장), 엔티티는 스키마 정의용
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "trending_checkpoint")
+public class TrendingCheckpoint {
+    @Id
+    private Long boardId;
+
+    @Column(nullable = false)
+    private String title;
+
+    //checkpointedAt 기준 점수 (불러올 때 지난 시간만큼 감소)
+    @Column(nullable = false)
+    private double score;
+
+    @Column(nullable = false)
+    private LocalDateTime checkpointedAt;
+}
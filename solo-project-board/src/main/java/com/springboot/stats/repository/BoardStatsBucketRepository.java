@@ -0,0 +1,71 @@
+package com.springboot.stats.repository;
+
+import com.springboot.stats.entity.BoardStatsBucket;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BoardStatsBucketRepository extends JpaRepository<BoardStatsBucket, BoardStatsBucket.BucketId> {
+    //구간에 조회수, 좋아요 증감을 더함 (구간 행이 아직 없으면 0)
+    @Transactional
+    @Modifying
+    @Query("update BoardStatsBucket b set b.viewCount = b.viewCount + :views, b.likeCount = b.likeCount + :likes " +
+            "where b.boardId = :boardId and b.granularity = :granularity and b.bucketStart = :bucketStart")
+    int addCounts(@Param("boardId") long boardId, @Param("granularity") BoardStatsBucket.Granularity granularity,
+                  @Param("bucketStart") LocalDateTime bucketStart,
+                  @Param("views") long views, @Param("likes") long likes);
+
+    //구간의 값을 다시 계산한 합으로 바꿈 (구간 행이 아직 없으면 0)
+    @Transactional
+    @Modifying
+    @Query("update BoardStatsBucket b set b.viewCount = :views, b.likeCount = :likes " +
+            "where b.boardId = :boardId and b.granularity = :granularity and b.bucketStart = :bucketStart")
+    int setCounts(@Param("boardId") long boardId, @Param("granularity") BoardStatsBucket.Granularity granularity,
+                  @Param("bucketStart") LocalDateTime bucketStart,
+                  @Param("views") long views, @Param("likes") long likes);
+
+    //구간 행 생성 (이미 있으면 0)
+    @Transactional
+    @Modifying
+    @Query(value = "insert into board_stats_bucket (board_id, granularity, bucket_start, view_count, like_count) " +
+            "select :boardId, :granularity, :bucketStart, :views, :likes where not exists " +
+            "(select 1 from board_stats_bucket where board_id = :boardId and granularity = :granularity " +
+            "and bucket_start = :bucketStart)", nativeQuery = true)
+    int createBucket(@Param("boardId") long boardId, @Param("granularity") String granularity,
+                     @Param("bucketStart") LocalDateTime bucketStart,
+                     @Param("views") long views, @Param("likes") long likes);
+
+    //[from, to) 구간들의 게시글별 합 : [boardId, 조회수 합, 좋아요 합]
+    @Query("select b.boardId, sum(b.viewCount), sum(b.likeCount) from BoardStatsBucket b " +
+            "where b.granularity = :granularity and b.bucketStart >= :from and b.bucketStart < :to " +
+            "group by b.boardId")
+    List<Object[]> sumByBoard(@Param("granularity") BoardStatsBucket.Granularity granularity,
+                              @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    //from 이후 구간들의 합이 큰 게시글 순 : [boardId, 조회수 합, 좋아요 합]
+        //점수 = 조회수 + 좋아요 * likeWeight (같으면 최신 게시글 먼저)
+    @Query("select b.boardId, sum(b.viewCount), sum(b.likeCount) from BoardStatsBucket b " +
+            "where b.granularity = :granularity and b.bucketStart >= :from " +
+            "group by b.boardId " +
+            "order by sum(b.viewCount) + sum(b.likeCount) * :likeWeight desc, b.boardId desc")
+    List<Object[]> findTrending(@Param("granularity") BoardStatsBucket.Granularity granularity,
+                                @Param("from") LocalDateTime from, @Param("likeWeight") long likeWeight,
+                                Pageable pageable);
+
+    //게시글 하나의 from 이후 구간 (기본키 (board_id, granularity, bucket_start) 범위 조회)
+    List<BoardStatsBucket> findByBoardIdAndGranularityAndBucketStartGreaterThanEqualOrderByBucketStart(
+            long boardId, BoardStatsBucket.Granularity granularity, LocalDateTime from);
+
+    //보관 기간이 지난 구간 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from BoardStatsBucket b where b.granularity = :granularity and b.bucketStart < :before")
+    int deleteBuckets(@Param("granularity") BoardStatsBucket.Granularity granularity,
+                      @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,145 @@
+package com.springboot.stats.service;
+
+import com.springboot.event.BoardLikedEvent;
+import com.springboot.stats.entity.BoardStatsBucket;
+import com.springboot.stats.repository.BoardStatsBucketRepository;
+import com.springboot.view.ViewEvent;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+//조회, 좋아요를 게시글별 분 단위 구간으로 메모리에 누적했다가 주기적으로 board_stats_bucket 에 더한다.
+    //조회 : ViewEventConsumer 가 중복 제거 후 저장한 조회 이벤트 (조회 시각 기준 구간)
+    //좋아요 : 좋아요 트랜잭션이 커밋된 후 (BoardLikedEvent)
+    //-> flush 주기마다 (게시글, 분) 당 UPDATE 한번
+//유실 범위 : 비정상 종료 시 마지막 flush 이후 누적된 값 (통계용이므로 조회수, 좋아요 수에는 영향 없음)
+@Slf4j
+@Component
+public class BoardStatsRecorder {
+    private final BoardStatsBucketRepository bucketRepository;
+    //(boardId, 분) 별로 아직 저장되지 않은 조회수, 좋아요 증감
+    private final Map<BucketKey, PendingCounts> pendingCounts = new ConcurrentHashMap<>();
+    //flush 는 한 스레드만 실행
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public BoardStatsRecorder(BoardStatsBucketRepository bucketRepository) {
+        this.bucketRepository = bucketRepository;
+    }
+
+    public void recordViews(Collection<ViewEvent> events) {
+        for (ViewEvent event : events) {
+            LocalDateTime viewedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(event.getViewedAt()), ZoneId.systemDefault());
+            record(event.getBoardId(), viewedAt, 1, 0);
+        }
+    }
+
+    public void recordLike(long boardId, int delta, LocalDateTime likedAt) {
+        record(boardId, likedAt, 0, delta);
+    }
+
+    //롤백된 좋아요는 집계하지 않는다. (트랜잭션 밖에서 발행되면 바로 집계)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardLiked(BoardLikedEvent event) {
+        recordLike(event.getBoardId(), event.getDelta(), LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${board.stats.flush-interval-ms:5000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushPendingCounts();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    //정상 종료 시 진행 중인 flush 가 끝난 뒤 남은 값 저장
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            flushPendingCounts();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPendingCounts() {
+        for (Map.Entry<BucketKey, PendingCounts> entry : pendingCounts.entrySet()) {
+            BucketKey key = entry.getKey();
+            PendingCounts counts = entry.getValue();
+            //sumThenReset : 읽는 도중 들어온 값은 다음 flush 로 넘어간다.
+            long views = counts.views.sumThenReset();
+            long likes = counts.likes.sumThenReset();
+            if (views == 0 && likes == 0) {
+                //한 주기 동안 기록이 없던 구간은 버퍼에서 제거
+                    //record 와 같은 key 의 compute 안에서 다시 확인 -> 그 사이 더해진 값이 있으면 남겨 둔다.
+                pendingCounts.computeIfPresent(key, (k, current) -> current == counts && counts.isEmpty() ? null : current);
+                continue;
+            }
+            try {
+                addCounts(key, views, likes);
+            } catch (RuntimeException e) {
+                //저장 실패 시 다음 flush 때 다시 시도
+                counts.views.add(views);
+                counts.likes.add(likes);
+                log.error("# Board stats flush failed: boardId={}, minute={}", key.boardId, key.minute, e);
+            }
+        }
+    }
+
+    private void addCounts(BucketKey key, long views, long likes) {
+        BoardStatsBucket.Granularity minute = BoardStatsBucket.Granularity.MINUTE;
+        if (bucketRepository.addCounts(key.boardId, minute, key.minute, views, likes) > 0) {
+            return;
+        }
+        //구간의 첫 기록 -> 행을 만들면서 저장, 다른 서버가 먼저 만들었다면 다시 더한다.
+        if (bucketRepository.createBucket(key.boardId, minute.name(), key.minute, views, likes) == 0) {
+            bucketRepository.addCounts(key.boardId, minute, key.minute, views, likes);
+        }
+    }
+
+    //값을 더하는 것까지 compute 안에서 실행 -> flush 가 버퍼에서 제거한 PendingCounts 에 더해져 유실되지 않는다.
+        //기록은 ViewEventConsumer 스레드와 좋아요 커밋 후에만 실행되어 같은 key 의 경합은 적다.
+    private void record(long boardId, LocalDateTime time, long views, long likes) {
+        pendingCounts.compute(new BucketKey(boardId, BoardStatsBucket.Granularity.MINUTE.truncate(time)), (key, counts) -> {
+            PendingCounts pending = counts == null ? new PendingCounts() : counts;
+            pending.views.add(views);
+            pending.likes.add(likes);
+            return pending;
+        });
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class BucketKey {
+        private final long boardId;
+        private final LocalDateTime minute;
+    }
+
+    //LongAdder : 여러 스레드가 동시에 증가시켜도 경합이 적다.
+    private static class PendingCounts {
+        private final LongAdder views = new LongAdder();
+        private final LongAdder likes = new LongAdder();
+
+        private boolean isEmpty() {
+            return views.sum() == 0 && likes.sum() == 0;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.springboot.stats.service;
+
+import com.springboot.stats.entity.BoardStatsBucket;
+import com.springboot.stats.repository.BoardStatsBucketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+//분 구간 -> 시간 구간, 시간 구간 -> 일 구간으로 합치고 보관 기간이 지난 구간을 삭제
+    //합친 구간은 더하지 않고 작은 구간의 합으로 다시 계산 (같은 구간을 여러번 계산해도 결과가 같다.)
+        //직전 구간 + 진행 중인 구간을 매번 다시 계산
+        //-> 진행 중인 시간/일 구간도 rollup-interval-ms 만큼만 늦게 반영, 늦게 flush 된 값도 다음 계산에 포함
+    //minute-retention-hours 는 2 이상이어야 한다. (직전 시간 구간을 계산할 분 구간이 남아있도록)
+@Slf4j
+@Component
+public class BoardStatsRollup {
+    private final BoardStatsBucketRepository bucketRepository;
+
+    //분, 시간, 일 구간 보관 기간
+    private final Duration minuteRetention;
+    private final Duration hourRetention;
+    private final Duration dayRetention;
+
+    public BoardStatsRollup(BoardStatsBucketRepository bucketRepository,
+                            @Value("${board.stats.minute-retention-hours:3}") long minuteRetentionHours,
+                            @Value("${board.stats.hour-retention-days:8}") long hourRetentionDays,
+                            @Value("${board.stats.day-retention-days:400}") long dayRetentionDays) {
+        this.bucketRepository = bucketRepository;
+        this.minuteRetention = Duration.ofHours(Math.max(minuteRetentionHours, 2));
+        this.hourRetention = Duration.ofDays(Math.max(hourRetentionDays, 2));
+        this.dayRetention = Duration.ofDays(dayRetentionDays);
+    }
+
+    @Scheduled(fixedDelayString = "${board.stats.rollup-interval-ms:60000}")
+    public void rollup() {
+        try {
+            rollup(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            //다음 주기에 다시 계산 (분, 시간 구간은 보관 기간 동안 남아있음)
+            log.error("# Board stats rollup failed", e);
+        }
+    }
+
+    public void rollup(LocalDateTime now) {
+        LocalDateTime currentHour = BoardStatsBucket.Granularity.HOUR.truncate(now);
+        LocalDateTime currentDay = BoardStatsBucket.Granularity.DAY.truncate(now);
+
+        //시간 구간을 먼저 계산해야 일 구간에 반영된다.
+        recompute(BoardStatsBucket.Granularity.MINUTE, BoardStatsBucket.Granularity.HOUR, currentHour.minusHours(1));
+        recompute(BoardStatsBucket.Granularity.MINUTE, BoardStatsBucket.Granularity.HOUR, currentHour);
+        recompute(BoardStatsBucket.Granularity.HOUR, BoardStatsBucket.Granularity.DAY, currentDay.minusDays(1));
+        recompute(BoardStatsBucket.Granularity.HOUR, BoardStatsBucket.Granularity.DAY, currentDay);
+
+        bucketRepository.deleteBuckets(BoardStatsBucket.Granularity.MINUTE, now.minus(minuteRetention));
+        bucketRepository.deleteBuckets(BoardStatsBucket.Granularity.HOUR, now.minus(hourRetention));
+        bucketRepository.deleteBuckets(BoardStatsBucket.Granularity.DAY, now.minus(dayRetention));
+    }
+
+    //bucketStart 에서 시작하는 target 구간 = 그 안의 source 구간 합 (게시글별)
+    private void recompute(BoardStatsBucket.Granularity source, BoardStatsBucket.Granularity target,
+                           LocalDateTime bucketStart) {
+        LocalDateTime bucketEnd = bucketStart.plus(target.getDuration());
+        for (Object[] row : bucketRepository.sumByBoard(source, bucketStart, bucketEnd)) {
+            long boardId = (Long) row[0];
+            long views = ((Number) row[1]).longValue();
+            long likes = ((Number) row[2]).longValue();
+            if (bucketRepository.setCounts(boardId, target, bucketStart, views, likes) == 0
+                    && bucketRepository.createBucket(boardId, target.name(), bucketStart, views, likes) == 0) {
+                //다른 서버가 먼저 만들었음
+                bucketRepository.setCounts(boardId, target, bucketStart, views, likes);
+            }
+        }
+    }
+}
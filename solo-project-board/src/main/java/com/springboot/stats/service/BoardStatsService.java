@@ -0,0 +1,113 @@
+package com.springboot.stats.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.board.entity.Board;
+import com.springboot.board.repository.BoardRepository;
+import com.springboot.board.service.BoardService;
+import com.springboot.stats.dto.BoardStatsDto;
+import com.springboot.stats.entity.BoardStatsBucket;
+import com.springboot.stats.repository.BoardStatsBucketRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+//인기글, 게시글 통계 조회 : board_stats_bucket 의 구간만 읽는다. (View, Love 행은 읽지 않음)
+    //인기글 : 기간의 구간 합이 큰 순서 (점수 = 조회수 + 좋아요 * like-weight)
+        //삭제된 글, 비밀글은 제외 -> 제외될 글을 고려해서 size 의 2배를 조회
+        //size 는 1 ~ MAX_TRENDING_SIZE 로 제한
+        //기간마다 MAX_TRENDING_SIZE 건을 trending-cache-seconds 동안 재사용 -> 요청한 size 만큼 앞에서 잘라서 반환
+    //게시글 통계 : 게시글 하나의 기간 구간 (최대 60/24/7 행)
+@Transactional(readOnly = true)
+@Service
+public class BoardStatsService {
+    public static final int MAX_TRENDING_SIZE = 100;
+
+    private final BoardStatsBucketRepository bucketRepository;
+    private final BoardRepository boardRepository;
+    //게시글 통계는 게시글을 조회할 수 있는 회원만 (비밀글, 삭제된 글 확인)
+    private final BoardService boardService;
+    private final long likeWeight;
+    private final Cache<String, List<BoardStatsDto.Trending>> trendingCache;
+
+    public BoardStatsService(BoardStatsBucketRepository bucketRepository, BoardRepository boardRepository,
+                             BoardService boardService,
+                             @Value("${board.stats.like-weight:5}") long likeWeight,
+                             @Value("${board.stats.trending-cache-seconds:10}") long trendingCacheSeconds) {
+        this.bucketRepository = bucketRepository;
+        this.boardRepository = boardRepository;
+        this.boardService = boardService;
+        this.likeWeight = likeWeight;
+        this.trendingCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(trendingCacheSeconds))
+                .maximumSize(100)
+                .build();
+    }
+
+    public List<BoardStatsDto.Trending> findTrending(String window, int size) {
+        StatsWindow statsWindow = StatsWindow.from(window);
+        List<BoardStatsDto.Trending> trending = trendingCache.get(statsWindow.getParameter(),
+                key -> findTrending(statsWindow, MAX_TRENDING_SIZE, LocalDateTime.now()));
+        return List.copyOf(trending.subList(0, Math.min(trendingSize(size), trending.size())));
+    }
+
+    //1 ~ MAX_TRENDING_SIZE 범위로 제한
+    public static int trendingSize(int size) {
+        return Math.max(1, Math.min(size, MAX_TRENDING_SIZE));
+    }
+
+    public List<BoardStatsDto.Trending> findTrending(StatsWindow window, int size, LocalDateTime now) {
+        size = trendingSize(size);
+        List<Object[]> rows = bucketRepository.findTrending(
+                window.getGranularity(), window.getFrom(now), likeWeight, PageRequest.of(0, size * 2));
+        Map<Long, Board> boards = boardRepository.findAllById(
+                        rows.stream().map(row -> (Long) row[0]).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(Board::getBoardId, Function.identity()));
+
+        List<BoardStatsDto.Trending> trending = new ArrayList<>(Math.min(size, rows.size()));
+        for (Object[] row : rows) {
+            Board board = boards.get((Long) row[0]);
+            if (board == null
+                    || board.getBoardStatus() == Board.BoardStatus.QUESTION_DELETE
+                    || board.getPublicStatus() == Board.BoardPublicStatus.SECRET) {
+                continue;
+            }
+            trending.add(new BoardStatsDto.Trending(board.getBoardId(), board.getTitle(),
+                    ((Number) row[1]).longValue(), ((Number) row[2]).longValue()));
+            if (trending.size() == size) {
+                break;
+            }
+        }
+        return trending;
+    }
+
+    public BoardStatsDto.Response findBoardStats(long boardId, String window) {
+        StatsWindow statsWindow = StatsWindow.from(window);
+        Board board = boardService.findVerifiedBoard(boardId);
+        boardService.boardSecretStatus(board);
+        boardService.boardStatusDelete(board);
+        return findBoardStats(boardId, statsWindow, LocalDateTime.now());
+    }
+
+    public BoardStatsDto.Response findBoardStats(long boardId, StatsWindow window, LocalDateTime now) {
+        List<BoardStatsBucket> buckets = bucketRepository
+                .findByBoardIdAndGranularityAndBucketStartGreaterThanEqualOrderByBucketStart(
+                        boardId, window.getGranularity(), window.getFrom(now));
+        return new BoardStatsDto.Response(boardId, window.getParameter(),
+                buckets.stream().mapToLong(BoardStatsBucket::getViewCount).sum(),
+                buckets.stream().mapToLong(BoardStatsBucket::getLikeCount).sum(),
+                buckets.stream()
+                        .map(bucket -> new BoardStatsDto.Bucket(
+                                bucket.getBucketStart(), bucket.getViewCount(), bucket.getLikeCount()))
+                        .collect(Collectors.toList()));
+    }
+}
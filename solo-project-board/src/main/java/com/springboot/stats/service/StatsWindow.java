@@ -0,0 +1,48 @@
+package com.springboot.stats.service;
+
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.stats.entity.BoardStatsBucket;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+//인기글, 게시글 통계 조회 기간 : 최근 1시간(분 구간 60개) / 하루(시간 구간 24개) / 일주일(일 구간 7개)
+    //진행 중인 구간을 포함한다.
+public enum StatsWindow {
+    HOUR("hour", BoardStatsBucket.Granularity.MINUTE, 60),
+    DAY("day", BoardStatsBucket.Granularity.HOUR, 24),
+    WEEK("week", BoardStatsBucket.Granularity.DAY, 7);
+
+    //요청 파라미터 값 (window=hour|day|week)
+    @Getter
+    private String parameter;
+
+    //읽을 구간 단위
+    @Getter
+    private BoardStatsBucket.Granularity granularity;
+
+    //읽을 구간 수
+    @Getter
+    private int bucketCount;
+
+    StatsWindow(String parameter, BoardStatsBucket.Granularity granularity, int bucketCount) {
+        this.parameter = parameter;
+        this.granularity = granularity;
+        this.bucketCount = bucketCount;
+    }
+
+    public static StatsWindow from(String parameter) {
+        for (StatsWindow window : values()) {
+            if (window.parameter.equalsIgnoreCase(parameter)) {
+                return window;
+            }
+        }
+        throw new BusinessLogicException(ExceptionCode.INVALID_STATS_WINDOW);
+    }
+
+    //now 기준 가장 오래된 구간의 시작 시각
+    public LocalDateTime getFrom(LocalDateTime now) {
+        return granularity.truncate(now).minus(granularity.getDuration().multipliedBy(bucketCount - 1));
+    }
+}
@@ -0,0 +1,206 @@
+package com.springboot.stats.service;
+
+import com.springboot.event.BoardHiddenEvent;
+import com.springboot.event.BoardLikedEvent;
+import com.springboot.stats.dto.BoardStatsDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+//실시간 인기글 순위 : 시간이 지날수록 감소하는 점수(조회 1 + 좋아요 like-weight, half-life-minutes 마다 절반)
+    //점수가 높은 capacity 개 게시글만 메모리에 보관 (게시글 id -> 점수 + 점수 순 TreeSet)
+        //조회/좋아요마다 게시글 하나의 위치만 바뀐다. (O(log capacity))
+        //상위 size 건 조회는 TreeSet 의 앞에서 size 건 -> DB 접근 없음
+    //점수 감소 : 모든 게시글의 점수를 매번 줄이지 않고, 기준 시각(landmark) 이후 흐른 시간만큼 커진 가중치로 더한다.
+        //weight = Σ 점수 * 2^((발생 시각 - landmark) / half-life) -> 순서는 현재 점수와 같다.
+        //가중치가 너무 커지지 않도록 checkpoint 할 때마다 landmark 를 현재 시각으로 옮긴다.
+    //공개 게시글만 : 조회는 BoardService 에서 공개글일 때만, 좋아요는 이미 순위에 있는 게시글만 반영
+        //삭제되거나 비밀글로 바뀐 게시글은 커밋 후 제거 (BoardHiddenEvent)
+//checkpoint-interval-ms 마다, 정상 종료 시 trending_checkpoint 에 저장 -> 시작 시 불러온다.
+    //유실 범위 : 비정상 종료 시 마지막 checkpoint 이후 반영된 조회, 좋아요
+@Slf4j
+@Component
+public class TrendingRanker {
+    private static final String INSERT_CHECKPOINT =
+            "insert into trending_checkpoint (board_id, title, score, checkpointed_at) values (?, ?, ?, ?)";
+    //이보다 작은 점수의 게시글은 checkpoint 할 때 제거
+    private static final double MIN_SCORE = 0.01;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int capacity;
+    private final long likeWeight;
+    private final double halfLifeMillis;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    //가중치 큰 순 (같으면 최신 게시글 먼저)
+    private final NavigableSet<Entry> ranking = new TreeSet<>(Comparator
+            .comparingDouble((Entry entry) -> entry.weight).reversed()
+            .thenComparing(Comparator.comparingLong((Entry entry) -> entry.boardId).reversed()));
+    private long landmark = System.currentTimeMillis();
+
+    public TrendingRanker(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                          @Value("${board.trending.capacity:1000}") int capacity,
+                          @Value("${board.trending.like-weight:5}") long likeWeight,
+                          @Value("${board.trending.half-life-minutes:60}") long halfLifeMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.capacity = capacity;
+        this.likeWeight = likeWeight;
+        this.halfLifeMillis = halfLifeMinutes * 60_000d;
+    }
+
+    //공개 게시글 조회 (제목도 최신 값으로)
+    public void recordView(long boardId, String title) {
+        add(boardId, title, 1, System.currentTimeMillis());
+    }
+
+    //좋아요 취소는 점수를 줄인다. (0 미만으로는 줄지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardLiked(BoardLikedEvent event) {
+        add(event.getBoardId(), null, event.getDelta() * likeWeight, System.currentTimeMillis());
+    }
+
+    //비밀글로 변경, 삭제가 커밋된 후 제거 -> 롤백되면 순위 유지
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardHidden(BoardHiddenEvent event) {
+        remove(event.getBoardId());
+    }
+
+    public synchronized void remove(long boardId) {
+        Entry entry = entries.remove(boardId);
+        if (entry != null) {
+            ranking.remove(entry);
+        }
+    }
+
+    //현재 점수가 높은 순서로 size 건 (1 ~ BoardStatsService.MAX_TRENDING_SIZE 로 제한)
+    public synchronized List<BoardStatsDto.Ranked> top(int size) {
+        size = BoardStatsService.trendingSize(size);
+        long now = System.currentTimeMillis();
+        List<BoardStatsDto.Ranked> top = new ArrayList<>(Math.min(size, ranking.size()));
+        for (Entry entry : ranking) {
+            if (top.size() == size) {
+                break;
+            }
+            top.add(new BoardStatsDto.Ranked(entry.boardId, entry.title, entry.scoreAt(now)));
+        }
+        return top;
+    }
+
+    //title 이 null 이면 순위에 있는 게시글에만 반영 (좋아요)
+    synchronized void add(long boardId, String title, double score, long time) {
+        Entry entry = entries.get(boardId);
+        if (entry == null) {
+            if (title == null || score <= 0) {
+                return;
+            }
+            entry = new Entry(boardId, title, 0);
+            entries.put(boardId, entry);
+        } else {
+            ranking.remove(entry);
+            if (title != null) {
+                entry.title = title;
+            }
+        }
+        entry.weight = Math.max(0, entry.weight + score * Math.pow(2, (time - landmark) / halfLifeMillis));
+        ranking.add(entry);
+
+        //가득 차면 점수가 가장 낮은 게시글 제거
+        if (entries.size() > capacity) {
+            entries.remove(ranking.pollLast().boardId);
+        }
+    }
+
+    //시작 시 마지막 checkpoint 를 불러옴 (checkpoint 이후 흐른 시간만큼 점수 감소)
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        long now = System.currentTimeMillis();
+        jdbcTemplate.query("select board_id, title, score, checkpointed_at from trending_checkpoint", rs -> {
+            long checkpointedAt = rs.getTimestamp("checkpointed_at").getTime();
+            double score = rs.getDouble("score") * Math.pow(2, -(now - checkpointedAt) / halfLifeMillis);
+            add(rs.getLong("board_id"), rs.getString("title"), score, now);
+        });
+        log.info("# Trending ranking restored: boards={}", entries.size());
+    }
+
+    @Scheduled(fixedDelayString = "${board.trending.checkpoint-interval-ms:60000}")
+    public void checkpoint() {
+        try {
+            checkpoint(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            //다음 주기에 다시 저장 (메모리의 순위는 그대로)
+            log.error("# Trending checkpoint failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        checkpoint();
+    }
+
+    void checkpoint(long now) {
+        List<Object[]> rows = new ArrayList<>();
+        synchronized (this) {
+            rebase(now);
+            for (Entry entry : ranking) {
+                rows.add(new Object[]{entry.boardId, entry.title, entry.weight, new Timestamp(now)});
+            }
+        }
+        //DB 저장은 lock 밖에서 (저장하는 동안에도 조회/좋아요 반영)
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("delete from trending_checkpoint");
+            jdbcTemplate.batchUpdate(INSERT_CHECKPOINT, rows);
+        });
+    }
+
+    //landmark 를 now 로 옮기고 (가중치 = 현재 점수) 점수가 거의 0 인 게시글 제거
+        //TreeSet 에 들어 있는 Entry 의 가중치를 바꾸면 정렬 기준이 바뀌므로 비운 뒤 다시 넣는다.
+    private void rebase(long now) {
+        double factor = Math.pow(2, -(now - landmark) / halfLifeMillis);
+        landmark = now;
+        List<Entry> rescaled = new ArrayList<>(ranking);
+        ranking.clear();
+        for (Entry entry : rescaled) {
+            entry.weight *= factor;
+            if (entry.weight < MIN_SCORE) {
+                entries.remove(entry.boardId);
+            } else {
+                ranking.add(entry);
+            }
+        }
+    }
+
+    private class Entry {
+        private final long boardId;
+        private String title;
+        private double weight;
+
+        private Entry(long boardId, String title, double weight) {
+            this.boardId = boardId;
+            this.title = title;
+            this.weight = weight;
+        }
+
+        private double scoreAt(long now) {
+            return weight * Math.pow(2, -(now - landmark) / halfLifeMillis);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.springboot.view;
+
+import com.springboot.entity.AssignedIdEntity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+//게시글별 조회한 회원 HyperLogLog sketch (게시글당 4KB 고정)
+    //View 행 수를 세지 않고 서로 다른 조회 회원 수(uniqueViewers)를 추정
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "board_viewer_sketch")
+public class BoardViewerSketch extends AssignedIdEntity<Long> {
+    @Id
+    private Long boardId;
+
+    @Column(nullable = false, length = HyperLogLog.REGISTER_COUNT)
+    private byte[] registers;
+
+    //추정값 (registers 가 바뀔 때 함께 저장 -> 조회 시 다시 계산하지 않음)
+    @Column(nullable = false)
+    private long uniqueViewers;
+
+    public BoardViewerSketch(Long boardId) {
+        this.boardId = boardId;
+        update(new HyperLogLog());
+    }
+
+    public HyperLogLog toHyperLogLog() {
+        return HyperLogLog.fromBytes(registers);
+    }
+
+    public void update(HyperLogLog hyperLogLog) {
+        this.registers = hyperLogLog.toBytes();
+        this.uniqueViewers = hyperLogLog.estimate();
+    }
+
+    @Override
+    public Long getId() {
+        return boardId;
+    }
+}
@@ -0,0 +1,17 @@
+package com.springboot.view;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BoardViewerSketchRepository extends JpaRepository<BoardViewerSketch, Long> {
+    //추정값만 조회 (registers 4KB 는 읽지 않음)
+    @Query("select s.uniqueViewers from BoardViewerSketch s where s.boardId = :boardId")
+    Optional<Long> findUniqueViewersByBoardId(@Param("boardId") long boardId);
+
+    List<BoardViewerSketch> findByBoardIdIn(Collection<Long> boardIds);
+}
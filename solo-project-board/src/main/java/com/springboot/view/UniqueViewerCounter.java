@@ -0,0 +1,59 @@
+package com.springboot.view;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+//게시글별 서로 다른 조회 회원 수 (HyperLogLog, board_viewer_sketch)
+    //ViewEventConsumer 가 조회 이벤트 batch 마다 게시글별로 sketch 를 한번씩 갱신
+    //조회 : 최근 추정값을 메모리에 보관 -> 게시글 조회마다 sketch 를 읽지 않는다.
+//sketch 는 consumer 스레드 하나만 갱신한다. (읽고-합치고-저장 사이에 다른 갱신 없음)
+@Component
+public class UniqueViewerCounter {
+    private final BoardViewerSketchRepository sketchRepository;
+    private final Cache<Long, Long> estimates = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .build();
+
+    public UniqueViewerCounter(BoardViewerSketchRepository sketchRepository) {
+        this.sketchRepository = sketchRepository;
+    }
+
+    //조회한 회원이 없으면 0
+    public long getUniqueViewers(long boardId) {
+        return estimates.get(boardId, id -> sketchRepository.findUniqueViewersByBoardId(id).orElse(0L));
+    }
+
+    //게시글별 조회 회원 추가 (게시글 수만큼 SELECT 한번 + 바뀐 sketch 만 저장)
+    @Transactional
+    public void addViewers(Map<Long, ? extends Collection<Long>> memberIdsByBoard) {
+        Map<Long, BoardViewerSketch> sketches = sketchRepository.findByBoardIdIn(memberIdsByBoard.keySet()).stream()
+                .collect(Collectors.toMap(BoardViewerSketch::getBoardId, Function.identity()));
+
+        memberIdsByBoard.forEach((boardId, memberIds) -> {
+            BoardViewerSketch sketch = sketches.get(boardId);
+            boolean isNew = sketch == null;
+            if (isNew) {
+                sketch = new BoardViewerSketch(boardId);
+            }
+            HyperLogLog hyperLogLog = sketch.toHyperLogLog();
+            boolean changed = false;
+            for (Long memberId : memberIds) {
+                changed |= hyperLogLog.add(memberId);
+            }
+            if (changed) {
+                sketch.update(hyperLogLog);
+            }
+            if (isNew) {
+                sketchRepository.save(sketch);
+            }
+            estimates.put(boardId, sketch.getUniqueViewers());
+        });
+    }
+}
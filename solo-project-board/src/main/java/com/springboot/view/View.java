@@ -5,8 +5,12 @@ import com.springboot.member.entity.Member;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 
 @NoArgsConstructor
 @Entity
@@ -14,7 +18,9 @@ import javax.persistence.*;
 @Getter
 public class View {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "view_seq")
+    @GenericGenerator(name = "view_seq", strategy = "com.springboot.config.PooledSequenceGenerator",
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "view_seq"))
     private Long viewId;
 
 //    @Column(nullable = false)
@@ -29,4 +35,8 @@ public class View {
     @JoinColumn(name = "member_id")
     private Member member;
 
+    //조회 시각 (ViewEventConsumer 가 JDBC batch INSERT 로 저장)
+    @Column(name = "viewed_at")
+    private LocalDateTime viewedAt;
+
 }
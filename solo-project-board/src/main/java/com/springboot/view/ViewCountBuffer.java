@@ -0,0 +1,161 @@
+package com.springboot.view;
+
+import com.springboot.board.repository.BoardRepository;
+import com.springboot.event.BoardChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+//조회수 write-behind 버퍼
+    //조회할 때마다 View 저장 + Board 저장을 하지 않고 메모리에 조회수를 누적해 두었다가
+    //스케줄러가 주기적으로 board 당 UPDATE 한번으로 DB에 반영한다.
+    //-> 인기글 조회가 Board row lock 때문에 직렬화되지 않는다.
+//유실 범위 : 서버가 비정상 종료되면 마지막 flush 이후 누적된 조회수(최대 max-buffered-deltas 건)는 유실된다.
+    //max-buffered-deltas: 1 로 설정하면 조회마다 바로 백그라운드 flush 를 예약
+@Slf4j
+@Component
+public class ViewCountBuffer {
+    private final BoardRepository boardRepository;
+    //DB 에 반영된 조회수가 바뀌면 게시글 조회 캐시에서 제거
+    private final ApplicationEventPublisher publisher;
+
+    //boardId 별로 아직 DB에 반영되지 않은 조회수 (LongAdder : 여러 스레드가 동시에 증가시켜도 경합이 적다)
+    private final Map<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+    //boardId 별로 이번 flush 주기 동안 조회한 회원 -> 같은 회원의 중복 조회는 한번만 센다.
+    private final Map<Long, Set<Long>> viewers = new ConcurrentHashMap<>();
+    //전체 버퍼에 쌓인 조회수 합
+    private final AtomicLong bufferedDeltas = new AtomicLong();
+    //flush 는 한 스레드만 실행
+    private final ReentrantLock flushLock = new ReentrantLock();
+    //버퍼가 가득 찼을 때의 flush 는 요청 스레드가 아닌 이 스레드에서 실행
+        //요청 스레드에서 flush 하면 UPDATE 가 조회 트랜잭션에 참여해서, 조회가 롤백되면 이미 비운 조회수도 같이 사라진다.
+    private final ExecutorService overflowFlusher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "view-count-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+    //overflow flush 가 이미 예약되어 있으면 다시 예약하지 않는다.
+    private final AtomicBoolean overflowFlushScheduled = new AtomicBoolean();
+
+    //같은 회원의 중복 조회 제거 여부
+    @Value("${view.counter.dedupe-per-member:true}")
+    private boolean dedupePerMember;
+
+    //버퍼에 쌓을 수 있는 최대 조회수 -> 넘으면 즉시 flush
+    @Value("${view.counter.max-buffered-deltas:10000}")
+    private long maxBufferedDeltas;
+
+    //애플리케이션 정상 종료 시 남은 조회수 반영 여부
+    @Value("${view.counter.flush-on-shutdown:true}")
+    private boolean flushOnShutdown;
+
+    public ViewCountBuffer(BoardRepository boardRepository, ApplicationEventPublisher publisher) {
+        this.boardRepository = boardRepository;
+        this.publisher = publisher;
+    }
+
+    //조회수 1 증가 (DB 접근 없음)
+    public void increase(long boardId, long memberId) {
+        //이번 주기에 이미 조회한 회원이라면 세지 않는다.
+        if (dedupePerMember
+                && !viewers.computeIfAbsent(boardId, id -> ConcurrentHashMap.newKeySet()).add(memberId)) {
+            return;
+        }
+        //compute 안에서 증가 -> flush 가 같은 LongAdder 를 제거하는 것과 겹치지 않는다.
+        pendingCounts.compute(boardId, (id, adder) -> {
+            LongAdder pending = adder == null ? new LongAdder() : adder;
+            pending.increment();
+            return pending;
+        });
+
+        //버퍼가 가득 차면 백그라운드 스레드에 flush 를 맡긴다. (이미 예약되어 있으면 넘어감)
+        if (bufferedDeltas.incrementAndGet() >= maxBufferedDeltas
+                && overflowFlushScheduled.compareAndSet(false, true)) {
+            overflowFlusher.execute(() -> {
+                overflowFlushScheduled.set(false);
+                flush();
+            });
+        }
+    }
+
+    //아직 DB에 반영되지 않은 조회수 -> 조회 시 DB 조회수 + pending 조회수를 보여준다.
+    public long getPendingCount(long boardId) {
+        LongAdder adder = pendingCounts.get(boardId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    //flush-interval-ms 마다 누적된 조회수를 board 당 UPDATE 한번으로 반영
+    @Scheduled(fixedDelayString = "${view.counter.flush-interval-ms:5000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushPendingCounts();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        //예약된 overflow flush 가 끝날 때까지 기다린다.
+        overflowFlusher.shutdown();
+        try {
+            overflowFlusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!flushOnShutdown) {
+            return;
+        }
+        //종료 시에는 진행 중인 flush 가 끝날 때까지 기다렸다가 남은 조회수를 반영
+        flushLock.lock();
+        try {
+            flushPendingCounts();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPendingCounts() {
+        //중복 조회 판단 기준은 flush 주기 단위
+        viewers.clear();
+
+        for (Map.Entry<Long, LongAdder> entry : pendingCounts.entrySet()) {
+            //sumThenReset : 읽는 도중 들어온 증가분은 다음 flush 로 넘어간다.
+            LongAdder adder = entry.getValue();
+            long delta = adder.sumThenReset();
+            if (delta == 0) {
+                //조회가 없던 board 는 버퍼에서 제거 (map 이 조회된 적 있는 모든 board 로 커지지 않도록)
+                    //증가는 compute 안에서만 하므로, 그 사이 들어온 증가분이 있으면 sum() != 0 이라 제거하지 않는다.
+                pendingCounts.computeIfPresent(entry.getKey(),
+                        (id, current) -> current == adder && current.sum() == 0 ? null : current);
+                continue;
+            }
+            try {
+                boardRepository.increaseViewCount(entry.getKey(), (int) delta);
+                bufferedDeltas.addAndGet(-delta);
+                publisher.publishEvent(new BoardChangedEvent(this, entry.getKey()));
+            } catch (RuntimeException e) {
+                //반영 실패 시 다음 flush 때 다시 시도
+                adder.add(delta);
+                log.error("# View count flush failed: boardId={}, delta={}", entry.getKey(), delta, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.springboot.view;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//게시글 조회 이벤트 (불변) -> ViewEventQueue 를 거쳐 ViewEventConsumer 가 View 행으로 저장
+@Getter
+@AllArgsConstructor
+public class ViewEvent {
+    private final long boardId;
+    private final long memberId;
+    //조회 시각 (epoch millis)
+    private final long viewedAt;
+}
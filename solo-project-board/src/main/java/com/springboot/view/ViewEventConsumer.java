@@ -0,0 +1,139 @@
+package com.springboot.view;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.stats.service.BoardStatsRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+//ViewEventQueue 의 조회 이벤트를 batch-size 건씩 꺼내서 저장하는 백그라운드 스레드
+    //같은 회원이 같은 게시글을 dedupe-window-seconds 안에 다시 조회한 이벤트는 한번만 저장
+    //View 행 : JDBC batch INSERT 한번으로 저장 (엔티티, 영속성 컨텍스트 사용 X)
+        //persist-raw-views: false 면 View 행은 저장하지 않는다. (서로 다른 조회 회원 수만 필요할 때)
+    //서로 다른 조회 회원 수 : 게시글별 HyperLogLog sketch 갱신 (UniqueViewerCounter)
+    //시간 구간별 조회수 : BoardStatsRecorder 에 누적 (메모리, 주기적으로 저장)
+//저장에 실패한 batch 는 로그만 남기고 버린다. (조회 기록은 조회수, 게시글 데이터에 영향 없음)
+//지표 : view.events.deduped, view.events.written, view.events.write (batch 저장 시간)
+@Slf4j
+@Component
+public class ViewEventConsumer {
+    //view_id 는 시퀀스에서 (JPA 로 저장하는 View 와 같은 시퀀스 -> id 가 겹치지 않는다.)
+    private static final String INSERT_VIEW =
+            "insert into view (view_id, board_id, member_id, viewed_at) values (next value for view_seq, ?, ?, ?)";
+
+    private final ViewEventQueue viewEventQueue;
+    private final JdbcTemplate jdbcTemplate;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final BoardStatsRecorder boardStatsRecorder;
+    private final int batchSize;
+    private final boolean persistRawViews;
+    private final long dedupeWindowMillis;
+    //최근 저장한 (boardId, memberId, 시간 구간) -> 다음 batch 의 중복 이벤트도 제거
+    private final Cache<String, Boolean> recentViews;
+
+    private final Counter deduped;
+    private final Counter written;
+    private final Timer writeTimer;
+
+    private volatile boolean running = true;
+    private Thread consumerThread;
+
+    public ViewEventConsumer(ViewEventQueue viewEventQueue, JdbcTemplate jdbcTemplate,
+                             UniqueViewerCounter uniqueViewerCounter, BoardStatsRecorder boardStatsRecorder,
+                             MeterRegistry meterRegistry,
+                             @Value("${view.events.batch-size:500}") int batchSize,
+                             @Value("${view.events.dedupe-window-seconds:60}") long dedupeWindowSeconds,
+                             @Value("${view.events.persist-raw-views:true}") boolean persistRawViews) {
+        this.viewEventQueue = viewEventQueue;
+        this.jdbcTemplate = jdbcTemplate;
+        this.uniqueViewerCounter = uniqueViewerCounter;
+        this.boardStatsRecorder = boardStatsRecorder;
+        this.batchSize = batchSize;
+        this.persistRawViews = persistRawViews;
+        this.dedupeWindowMillis = Duration.ofSeconds(dedupeWindowSeconds).toMillis();
+        this.recentViews = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(dedupeWindowMillis * 2))
+                .maximumSize(100_000)
+                .build();
+        this.deduped = meterRegistry.counter("view.events.deduped");
+        this.written = meterRegistry.counter("view.events.written");
+        this.writeTimer = meterRegistry.timer("view.events.write");
+    }
+
+    @PostConstruct
+    public void start() {
+        consumerThread = new Thread(this::consume, "view-event-consumer");
+        consumerThread.setDaemon(true);
+        consumerThread.start();
+    }
+
+    //정상 종료 시 큐에 남은 이벤트까지 저장하고 종료
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        consumerThread.join(Duration.ofSeconds(10).toMillis());
+    }
+
+    private void consume() {
+        List<ViewEvent> events = new ArrayList<>(batchSize);
+        while (running || viewEventQueue.size() > 0) {
+            try {
+                viewEventQueue.drainTo(events, batchSize, 100);
+                if (!events.isEmpty()) {
+                    write(events);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("# View event batch write failed: size={}", events.size(), e);
+            } finally {
+                events.clear();
+            }
+        }
+    }
+
+    //중복을 제거하고 저장 (저장한 이벤트 수 반환)
+    public int write(List<ViewEvent> events) {
+        List<ViewEvent> toWrite = new ArrayList<>(events.size());
+        for (ViewEvent event : events) {
+            String key = event.getBoardId() + ":" + event.getMemberId() + ":" + event.getViewedAt() / dedupeWindowMillis;
+            if (recentViews.asMap().putIfAbsent(key, Boolean.TRUE) != null) {
+                deduped.increment();
+                continue;
+            }
+            toWrite.add(event);
+        }
+        if (toWrite.isEmpty()) {
+            return 0;
+        }
+
+        writeTimer.record(() -> {
+            if (persistRawViews) {
+                jdbcTemplate.batchUpdate(INSERT_VIEW, toWrite, toWrite.size(), (ps, event) -> {
+                    ps.setLong(1, event.getBoardId());
+                    ps.setLong(2, event.getMemberId());
+                    ps.setTimestamp(3, new Timestamp(event.getViewedAt()));
+                });
+            }
+            uniqueViewerCounter.addViewers(toWrite.stream().collect(Collectors.groupingBy(
+                    ViewEvent::getBoardId, Collectors.mapping(ViewEvent::getMemberId, Collectors.toSet()))));
+        });
+        boardStatsRecorder.recordViews(toWrite);
+        written.increment(toWrite.size());
+        return toWrite.size();
+    }
+}
@@ -0,0 +1,99 @@
+package com.springboot.view;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+//조회 이벤트 큐 (크기 제한 있는 ring buffer)
+    //조회 요청은 이벤트만 넣고 바로 반환 -> View INSERT 는 ViewEventConsumer 가 모아서 처리 (조회 응답 시간에 INSERT 미포함)
+//큐가 가득 찼을 때 (overflow-policy)
+    //drop : 이벤트를 버린다. (조회 요청은 기다리지 않음)
+    //block : block-timeout-ms 까지 자리가 나기를 기다리고, 그래도 가득 차 있으면 버린다.
+    //sample : 큐가 sample-threshold 비율 이상 차면 sample-rate 비율의 이벤트만 넣고, 가득 차면 버린다.
+//지표 (/actuator/metrics) : view.events.queue.size, view.events.queue.capacity,
+    //view.events.published, view.events.dropped (reason=full|sampled)
+@Component
+public class ViewEventQueue {
+    private final BlockingQueue<ViewEvent> queue;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMillis;
+    private final double sampleThreshold;
+    private final double sampleRate;
+
+    private final Counter published;
+    private final Counter droppedFull;
+    private final Counter droppedSampled;
+
+    public ViewEventQueue(MeterRegistry meterRegistry,
+                          @Value("${view.events.queue-capacity:10000}") int capacity,
+                          @Value("${view.events.overflow-policy:drop}") String overflowPolicy,
+                          @Value("${view.events.block-timeout-ms:50}") long blockTimeoutMillis,
+                          @Value("${view.events.sample-threshold:0.8}") double sampleThreshold,
+                          @Value("${view.events.sample-rate:0.1}") double sampleRate) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.toUpperCase());
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.sampleThreshold = sampleThreshold;
+        this.sampleRate = sampleRate;
+
+        Gauge.builder("view.events.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder("view.events.queue.capacity", () -> capacity).register(meterRegistry);
+        this.published = meterRegistry.counter("view.events.published");
+        this.droppedFull = meterRegistry.counter("view.events.dropped", "reason", "full");
+        this.droppedSampled = meterRegistry.counter("view.events.dropped", "reason", "sampled");
+    }
+
+    //조회 이벤트 추가 (큐에 넣었으면 true, 버렸으면 false)
+    public boolean publish(long boardId, long memberId) {
+        ViewEvent event = new ViewEvent(boardId, memberId, System.currentTimeMillis());
+        if (overflowPolicy == OverflowPolicy.SAMPLE
+                && queue.size() >= capacity * sampleThreshold
+                && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            droppedSampled.increment();
+            return false;
+        }
+
+        boolean offered = queue.offer(event);
+        if (!offered && overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                offered = queue.offer(event, blockTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!offered) {
+            droppedFull.increment();
+            return false;
+        }
+        published.increment();
+        return true;
+    }
+
+    //최대 maxEvents 건을 events 에 옮김 (큐가 비어 있으면 timeoutMillis 까지 첫 이벤트를 기다림)
+    public int drainTo(Collection<ViewEvent> events, int maxEvents, long timeoutMillis) throws InterruptedException {
+        ViewEvent first = queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return 0;
+        }
+        events.add(first);
+        return 1 + queue.drainTo(events, maxEvents - 1);
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    public enum OverflowPolicy {
+        DROP, BLOCK, SAMPLE
+    }
+}
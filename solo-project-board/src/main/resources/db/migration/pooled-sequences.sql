@@ -0,0 +1,27 @@
+-- IDENTITY -> 시퀀스 id 이관 (H2, 기존 데이터가 있는 DB 에 한번 실행)
+    -- 엔티티의 id 는 PooledSequenceGenerator 가 시퀀스에서 받는다. (hibernate.id.optimizer.pooled.preferred: pooled-lo)
+    -- pooled-lo : 받아온 시퀀스 값 v 부터 v + allocation size - 1 까지 사용 -> 시퀀스를 max(id) + 1 부터 시작하면 기존 id 와 겹치지 않는다.
+    -- INCREMENT BY 는 hibernate.id.allocation_size 와 같아야 한다. (설정을 바꾸면 ALTER SEQUENCE ... INCREMENT BY 도 함께)
+-- 애플리케이션을 내린 상태에서 실행 (실행 중에 IDENTITY 로 추가되는 행이 없도록)
+
+create sequence if not exists board_seq start with 1 increment by 50;
+alter sequence board_seq restart with (select coalesce(max(board_id), 0) + 1 from board);
+alter table board alter column board_id drop identity;
+
+create sequence if not exists member_seq start with 1 increment by 50;
+alter sequence member_seq restart with (select coalesce(max(member_id), 0) + 1 from member);
+alter table member alter column member_id drop identity;
+
+create sequence if not exists comment_seq start with 1 increment by 50;
+alter sequence comment_seq restart with (select coalesce(max(comment_id), 0) + 1 from comment);
+alter table comment alter column comment_id drop identity;
+
+-- 조회 기록은 ViewEventConsumer 가 JDBC batch 로 저장 (next value for view_seq)
+create sequence if not exists view_seq start with 1 increment by 50;
+alter sequence view_seq restart with (select coalesce(max(view_id), 0) + 1 from view);
+alter table view alter column view_id drop identity;
+
+-- 좋아요는 LikeRepository.insertLike 가 저장 (next value for like_seq)
+create sequence if not exists like_seq start with 1 increment by 50;
+alter sequence like_seq restart with (select coalesce(max(like_id), 0) + 1 from love);
+alter table love alter column like_id drop identity;
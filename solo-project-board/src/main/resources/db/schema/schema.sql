@@ -0,0 +1,134 @@
+-- prod 프로필 스키마 (H2 파일 DB, application-prod.yml 의 spring.sql.init.schema-locations)
+    -- 시작할 때마다 실행 -> 없는 테이블, 시퀀스만 만든다. (if not exists, 기존 데이터 유지)
+    -- 엔티티와 맞는지는 Hibernate 가 시작할 때 확인 (ddl-auto: validate) -> 엔티티를 바꾸면 이 파일도 함께 수정
+-- 시퀀스 INCREMENT BY = hibernate.id.allocation_size (PooledSequenceGenerator, pooled-lo)
+    -- IDENTITY id 로 만들어진 기존 DB 는 db/migration/pooled-sequences.sql 을 먼저 실행
+
+create sequence if not exists board_seq start with 1 increment by 50;
+create sequence if not exists member_seq start with 1 increment by 50;
+create sequence if not exists comment_seq start with 1 increment by 50;
+create sequence if not exists view_seq start with 1 increment by 50;
+create sequence if not exists like_seq start with 1 increment by 50;
+
+create table if not exists member (
+    member_id bigint not null,
+    created_at timestamp,
+    last_modified_at timestamp,
+    email varchar(255) not null,
+    member_status varchar(255) not null,
+    password varchar(255) not null,
+    phone varchar(13) not null,
+    username varchar(255) not null,
+    primary key (member_id),
+    constraint uk_member_email unique (email)
+);
+
+create table if not exists member_roles (
+    member_member_id bigint not null,
+    roles varchar(255),
+    constraint fk_member_roles_member foreign key (member_member_id) references member
+);
+
+create table if not exists comment (
+    comment_id bigint not null,
+    created_at timestamp,
+    last_modified_at timestamp,
+    content varchar(255) not null,
+    member_id bigint,
+    primary key (comment_id),
+    constraint fk_comment_member foreign key (member_id) references member
+);
+
+create table if not exists board (
+    board_id bigint not null,
+    created_at timestamp,
+    last_modified_at timestamp,
+    board_status varchar(255) not null,
+    content varchar(255) not null,
+    is_new boolean not null,
+    like_count integer not null,
+    public_status varchar(255) not null,
+    title varchar(100) not null,
+    view_count integer not null,
+    comment_id bigint,
+    member_id bigint,
+    primary key (board_id),
+    constraint fk_board_comment foreign key (comment_id) references comment,
+    constraint fk_board_member foreign key (member_id) references member
+);
+
+-- 목록 정렬 인덱스 : 정렬 컬럼마다 오름차순/내림차순 (H2 는 인덱스를 역방향으로 읽지 못한다.)
+    -- 이전의 (board_status, 정렬 컬럼, board_id) 인덱스는 목록 쿼리가 더 이상 사용하지 않는다.
+drop index if exists idx_board_status_created_at;
+drop index if exists idx_board_status_like_count;
+drop index if exists idx_board_status_view_count;
+create index if not exists idx_board_created_at on board (created_at, board_id);
+create index if not exists idx_board_created_at_desc on board (created_at desc, board_id desc);
+create index if not exists idx_board_like_count on board (like_count, board_id);
+create index if not exists idx_board_like_count_desc on board (like_count desc, board_id desc);
+create index if not exists idx_board_view_count on board (view_count, board_id);
+create index if not exists idx_board_view_count_desc on board (view_count desc, board_id desc);
+
+-- 좋아요 (Like 엔티티)
+create table if not exists love (
+    like_id bigint not null,
+    board_id bigint not null,
+    member_id bigint not null,
+    primary key (like_id),
+    constraint uk_love_board_member unique (board_id, member_id),
+    constraint fk_love_board foreign key (board_id) references board,
+    constraint fk_love_member foreign key (member_id) references member
+);
+
+create table if not exists board_like_shard (
+    board_id bigint not null,
+    shard integer not null,
+    delta integer not null,
+    primary key (board_id, shard)
+);
+
+create table if not exists view (
+    view_id bigint not null,
+    viewed_at timestamp,
+    board_id bigint,
+    member_id bigint,
+    primary key (view_id),
+    constraint fk_view_board foreign key (board_id) references board,
+    constraint fk_view_member foreign key (member_id) references member
+);
+
+create table if not exists board_viewer_sketch (
+    board_id bigint not null,
+    registers varbinary(4096) not null,
+    unique_viewers bigint not null,
+    primary key (board_id)
+);
+
+create table if not exists board_token (
+    board_id bigint not null,
+    token varchar(50) not null,
+    primary key (board_id, token)
+);
+
+-- 기본키 (board_id, token) 가 게시글별 조회를 맡는다. -> 검색용 token 인덱스만 둔다.
+drop index if exists idx_board_token_board_id;
+create index if not exists idx_board_token_token on board_token (token, board_id);
+
+create table if not exists board_stats_bucket (
+    board_id bigint not null,
+    bucket_start timestamp not null,
+    granularity varchar(10) not null,
+    like_count bigint not null,
+    view_count bigint not null,
+    primary key (board_id, bucket_start, granularity)
+);
+
+create index if not exists idx_board_stats_bucket_granularity_start on board_stats_bucket (granularity, bucket_start);
+
+create table if not exists trending_checkpoint (
+    board_id bigint not null,
+    checkpointed_at timestamp not null,
+    score double not null,
+    title varchar(255) not null,
+    primary key (board_id)
+);
@@ -0,0 +1,63 @@
+package com.springboot.auth;
+
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+//키 교체 후에도 이전 Key 토큰이 검증되고, 이전 Key 를 폐기하면 검증되지 않는지 확인
+class JwtTokenizerTest {
+    private static final String OLD_KEY = "old-secret-key-old-secret-key-0123456789abcdef";
+    private static final String NEW_KEY = "new-secret-key-new-secret-key-0123456789abcdef";
+
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(100, new SimpleMeterRegistry());
+    private final JwtTokenizer jwtTokenizer = new JwtTokenizer(verifiedTokenCache);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtTokenizer, "secretKey", OLD_KEY);
+        jwtTokenizer.init();
+    }
+
+    @Test
+    void tokenSignedWithPreviousKeyIsVerifiedAfterRotation() {
+        String oldToken = accessToken();
+
+        jwtTokenizer.rotateKey(NEW_KEY);
+        String newToken = accessToken();
+
+        assertThat(jwtTokenizer.getClaims(oldToken).getBody().getSubject()).isEqualTo("user@gmail.com");
+        assertThat(jwtTokenizer.getClaims(newToken).getBody().getSubject()).isEqualTo("user@gmail.com");
+        assertThat(jwtTokenizer.getClaims(newToken).getHeader().getKeyId())
+                .isNotEqualTo(jwtTokenizer.getClaims(oldToken).getHeader().getKeyId());
+    }
+
+    @Test
+    void retiredKeyIsRejectedAndCachedVerificationsAreCleared() {
+        String oldToken = accessToken();
+        jwtTokenizer.rotateKey(NEW_KEY);
+        String newToken = accessToken();
+        verifiedTokenCache.put(oldToken, "user@gmail.com", List.of(), jwtTokenizer.getTokenExpiration(30));
+        assertThat(verifiedTokenCache.get(oldToken)).isNotNull();
+
+        jwtTokenizer.retirePreviousKey();
+
+        assertThatThrownBy(() -> jwtTokenizer.getClaims(oldToken)).isInstanceOf(SignatureException.class);
+        assertThat(jwtTokenizer.getClaims(newToken).getBody().getSubject()).isEqualTo("user@gmail.com");
+        assertThat(verifiedTokenCache.get(oldToken)).isNull();
+    }
+
+    private String accessToken() {
+        return jwtTokenizer.generateAccessToken(
+                Map.of("username", "user@gmail.com", "roles", List.of("USER")),
+                "user@gmail.com",
+                jwtTokenizer.getTokenExpiration(30));
+    }
+}
@@ -0,0 +1,55 @@
+package com.springboot.board.cache;
+
+import com.springboot.board.dto.BoardDto;
+import com.springboot.board.entity.Board;
+import com.springboot.event.BoardChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//캐시 hit 시 다시 조회하지 않고, 변경 이벤트를 받으면 다시 조회하는지 확인
+class BoardCacheTest {
+    private final BoardCache boardCache = new BoardCache(new SimpleMeterRegistry(), 100, 60);
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    void hitDoesNotReload() {
+        boardCache.get(1L, this::load);
+        boardCache.get(1L, this::load);
+
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void boardChangedEventInvalidatesOnlyThatBoard() {
+        boardCache.get(1L, this::load);
+        boardCache.get(2L, this::load);
+
+        boardCache.onBoardChanged(new BoardChangedEvent(this, 1L));
+        boardCache.get(1L, this::load);
+        boardCache.get(2L, this::load);
+
+        assertThat(loadCount).hasValue(3);
+    }
+
+    @Test
+    void missingBoardIsNotCached() {
+        assertThat(boardCache.get(1L, boardId -> {
+            loadCount.incrementAndGet();
+            return null;
+        })).isNull();
+        boardCache.get(1L, this::load);
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    private BoardCache.CachedBoard load(long boardId) {
+        loadCount.incrementAndGet();
+        BoardDto.Response response = new BoardDto.Response(boardId, "title", "content",
+                Board.BoardStatus.QUESTION_REGISTERED, Board.BoardPublicStatus.PUBLIC, null, 0, 0, null);
+        return new BoardCache.CachedBoard(response, 1L);
+    }
+}
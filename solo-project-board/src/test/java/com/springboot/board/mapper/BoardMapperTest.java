@@ -0,0 +1,49 @@
+package com.springboot.board.mapper;
+
+import com.springboot.board.entity.Board;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//수정 요청 병합 : null 이 아닌 제목, 내용, 공개 여부만 복사되는지 확인
+class BoardMapperTest {
+    private final BoardMapper mapper = Mappers.getMapper(BoardMapper.class);
+
+    @Test
+    void updateBoardCopiesOnlyNonNullEditableFields() {
+        Board board = new Board();
+        board.setBoardId(1L);
+        board.setTitle("title");
+        board.setContent("content");
+        board.setPublicStatus(Board.BoardPublicStatus.PUBLIC);
+        board.setBoardStatus(Board.BoardStatus.QUESTION_ANSWERED);
+        board.setViewCount(10);
+
+        //수정 요청에서 변환된 게시글 : 제목만 있고 상태는 기본값(QUESTION_REGISTERED)
+        Board patch = new Board();
+        patch.setTitle("new title");
+        mapper.updateBoard(patch, board);
+
+        assertThat(board.getTitle()).isEqualTo("new title");
+        assertThat(board.getContent()).isEqualTo("content");
+        assertThat(board.getPublicStatus()).isEqualTo(Board.BoardPublicStatus.PUBLIC);
+        assertThat(board.getBoardStatus()).isEqualTo(Board.BoardStatus.QUESTION_ANSWERED);
+        assertThat(board.getBoardId()).isEqualTo(1L);
+        assertThat(board.getViewCount()).isEqualTo(10);
+    }
+
+    @Test
+    void updateBoardChangesPublicStatus() {
+        Board board = new Board();
+        board.setTitle("title");
+        board.setPublicStatus(Board.BoardPublicStatus.PUBLIC);
+
+        Board patch = new Board();
+        patch.setPublicStatus(Board.BoardPublicStatus.SECRET);
+        mapper.updateBoard(patch, board);
+
+        assertThat(board.getTitle()).isEqualTo("title");
+        assertThat(board.getPublicStatus()).isEqualTo(Board.BoardPublicStatus.SECRET);
+    }
+}
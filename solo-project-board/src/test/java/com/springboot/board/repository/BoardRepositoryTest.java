@@ -0,0 +1,137 @@
+package com.springboot.board.repository;
+
+import com.springboot.board.dto.BoardDto;
+import com.springboot.board.entity.Board;
+import com.springboot.board.mapper.BoardMapper;
+import com.springboot.board.mapper.BoardMapperImpl;
+import com.springboot.comment.entity.Comment;
+import com.springboot.member.entity.Member;
+import com.springboot.support.TestMembers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//목록/단건 조회가 BoardDto.Response 에 필요한 데이터(게시글 + 답변)를 쿼리 한번으로 가져오는지 확인 (N+1 X)
+    //hibernate.generate_statistics : 실행된 SQL 문 수 집계
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(BoardMapperImpl.class)
+class BoardRepositoryTest {
+    private static final int BOARD_COUNT = 20;
+    private static final int PAGE_SIZE = 5;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMapper mapper;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Statistics statistics;
+    private long answeredBoardId;
+
+    @BeforeEach
+    void setUp() {
+        Member writer = em.persist(TestMembers.member("writer@gmail.com"));
+        Member admin = em.persist(TestMembers.member("admin@gmail.com", "ADMIN", "USER"));
+
+        //짝수 번째 글은 관리자 답변 완료, 홀수 번째 글은 답변 대기
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            Board board = new Board();
+            board.setTitle("title " + i);
+            board.setContent("content " + i);
+            board.setPublicStatus(Board.BoardPublicStatus.PUBLIC);
+            board.setMember(writer);
+            if (i % 2 == 0) {
+                Comment comment = new Comment();
+                comment.setContent("answer " + i);
+                comment.setMember(admin);
+                em.persist(comment);
+                board.setComment(comment);
+                board.setBoardStatus(Board.BoardStatus.QUESTION_ANSWERED);
+            }
+            em.persist(board);
+            if (i % 2 == 0) {
+                answeredBoardId = board.getBoardId();
+            }
+        }
+        em.flush();
+        //조회 시 1차 캐시가 아닌 DB 에서 읽도록
+        em.clear();
+
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void listingPageWithCommentsIsOneStatement() {
+        List<BoardDto.Response> responses = boardRepository.findBoardsByCursor(
+                List.of(Board.BoardStatus.QUESTION_ANSWERED), BoardSort.CREATED, Sort.Direction.DESC, null, PAGE_SIZE);
+
+        assertThat(responses).hasSize(PAGE_SIZE)
+                .allSatisfy(response -> assertThat(response.getComment()).startsWith("answer "));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void listingAllStatusesIsOneStatement() {
+        List<Board.BoardStatus> statuses = List.of(Board.BoardStatus.QUESTION_REGISTERED,
+                Board.BoardStatus.QUESTION_ANSWERED, Board.BoardStatus.QUESTION_DEACTIVED);
+
+        List<BoardDto.Response> responses = boardRepository.findBoardsByCursor(
+                statuses, BoardSort.CREATED, Sort.Direction.DESC, null, PAGE_SIZE);
+
+        //상태마다 조회해서 병합하지 않고 board_status <> QUESTION_DELETE 쿼리 한번
+        assertThat(responses).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void pageOverAllStatusesIsOneQueryWithOffset() {
+        List<Board.BoardStatus> statuses = List.of(Board.BoardStatus.QUESTION_REGISTERED,
+                Board.BoardStatus.QUESTION_ANSWERED, Board.BoardStatus.QUESTION_DEACTIVED);
+        List<Long> allIds = boardRepository.findBoards(statuses, BoardSort.CREATED, Sort.Direction.DESC,
+                        PageRequest.of(0, BOARD_COUNT)).map(BoardDto.Response::getBoardId).getContent();
+        statistics.clear();
+
+        List<Long> pageIds = boardRepository.findBoards(statuses, BoardSort.CREATED, Sort.Direction.DESC,
+                        PageRequest.of(2, PAGE_SIZE)).map(BoardDto.Response::getBoardId).getContent();
+
+        //offset 을 DB 에서 건너뛴다. -> 목록 쿼리 한번 + COUNT 쿼리 한번
+        assertThat(pageIds).isEqualTo(allIds.subList(2 * PAGE_SIZE, 3 * PAGE_SIZE));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void listingReadsResponsesWithoutManagedEntities() {
+        boardRepository.findBoards(List.of(Board.BoardStatus.QUESTION_ANSWERED), BoardSort.CREATED,
+                Sort.Direction.DESC, PageRequest.of(0, PAGE_SIZE));
+
+        //응답 DTO 로 바로 조회 -> 영속성 컨텍스트에 Board, Comment 가 올라가지 않는다.
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void singleReadWithCommentIsOneStatement() {
+        Board board = boardRepository.findWithCommentByBoardId(answeredBoardId).orElseThrow();
+        BoardDto.Response response = mapper.boardToBoardResponseDto(board);
+        //작성자 확인은 memberId 만 사용 -> 회원 프록시를 초기화하지 않는다.
+        board.getMember().getMemberId();
+
+        assertThat(response.getComment()).startsWith("answer ");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,116 @@
+package com.springboot.board.service;
+
+import com.springboot.board.cache.BoardCache;
+import com.springboot.board.entity.Board;
+import com.springboot.board.repository.BoardRepository;
+import com.springboot.event.MemberWithdrawnEvent;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import com.springboot.support.TestMembers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//탈퇴 회원의 게시글이 Board 로딩 없이 UPDATE 로 비활성화되는지 확인 (삭제된 글, 다른 회원의 글은 그대로)
+    //탈퇴 트랜잭션 커밋 시점에 동작하므로 테스트 트랜잭션(롤백)은 사용하지 않는다.
+@DataJpaTest(properties = "board.deactivation.chunk-size=2")
+@Import({BoardDeactivationJob.class, BoardCache.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BoardDeactivationJobTest {
+    private static final int BOARD_COUNT = 5;
+
+    @Autowired
+    private BoardDeactivationJob boardDeactivationJob;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Member writer;
+    private long deletedBoardId;
+    private long otherBoardId;
+
+    @BeforeEach
+    void setUp() {
+        writer = memberRepository.save(TestMembers.member("writer@gmail.com"));
+        Member other = memberRepository.save(TestMembers.member("other@gmail.com"));
+
+        List<Board> boards = new ArrayList<>();
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            boards.add(board(writer, i == 0 ? Board.BoardStatus.QUESTION_DELETE : Board.BoardStatus.QUESTION_REGISTERED));
+        }
+        boards.add(board(other, Board.BoardStatus.QUESTION_REGISTERED));
+        boardRepository.saveAll(boards);
+        deletedBoardId = boards.get(0).getBoardId();
+        otherBoardId = boards.get(BOARD_COUNT).getBoardId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        boardRepository.deleteAllInBatch();
+        //roles(ElementCollection) 도 함께 삭제
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void withdrawalDeactivatesBoardsInSameTransaction() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> publisher.publishEvent(new MemberWithdrawnEvent(this, writer.getMemberId())));
+
+        assertDeactivated();
+    }
+
+    @Test
+    void chunkedDeactivationTracksProgress() {
+        BoardDeactivationJob.Progress progress = boardDeactivationJob.deactivateInChunks(writer.getMemberId());
+
+        assertThat(progress.getStatus()).isEqualTo(BoardDeactivationJob.Progress.Status.COMPLETED);
+        assertThat(progress.getDeactivatedCount()).isEqualTo(BOARD_COUNT - 1);
+        assertThat(boardDeactivationJob.getProgress(writer.getMemberId())).isSameAs(progress);
+        assertDeactivated();
+    }
+
+    private void assertDeactivated() {
+        Map<Long, Board.BoardStatus> statuses = boardRepository.findAll().stream()
+                .collect(Collectors.toMap(Board::getBoardId, Board::getBoardStatus));
+
+        assertThat(statuses.remove(deletedBoardId)).isEqualTo(Board.BoardStatus.QUESTION_DELETE);
+        assertThat(statuses.remove(otherBoardId)).isEqualTo(Board.BoardStatus.QUESTION_REGISTERED);
+        assertThat(statuses.values()).hasSize(BOARD_COUNT - 1)
+                .containsOnly(Board.BoardStatus.QUESTION_DEACTIVED);
+    }
+
+    private Board board(Member member, Board.BoardStatus boardStatus) {
+        Board board = new Board();
+        board.setTitle("title");
+        board.setContent("content");
+        board.setPublicStatus(Board.BoardPublicStatus.PUBLIC);
+        board.setBoardStatus(boardStatus);
+        board.setMember(member);
+        return board;
+    }
+}
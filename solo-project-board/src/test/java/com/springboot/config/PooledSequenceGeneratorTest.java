@@ -0,0 +1,63 @@
+package com.springboot.config;
+
+import com.springboot.comment.entity.Comment;
+import com.springboot.member.entity.Member;
+import com.springboot.support.TestMembers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//시퀀스별 allocation size 설정이 시퀀스(INCREMENT BY)와 id 할당(pooled-lo)에 적용되는지 확인
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.id.allocation_size.comment_seq=7")
+class PooledSequenceGeneratorTest {
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void allocationSizeIsConfiguredPerSequence() {
+        assertThat(increment("COMMENT_SEQ")).isEqualTo(7);
+        //시퀀스별 설정이 없으면 default
+        assertThat(increment("BOARD_SEQ")).isEqualTo(50);
+    }
+
+    @Test
+    void idsComeFromOneBlockWithoutSequenceCalls() {
+        Member admin = em.persist(TestMembers.member("admin@gmail.com", "ADMIN"));
+
+        long first = persistComment(admin);
+        long sequenceValue = currentValue("COMMENT_SEQ");
+        //pooled-lo : 받아온 시퀀스 값부터 7개를 시퀀스 호출 없이 사용
+        for (int i = 1; i < 7; i++) {
+            assertThat(persistComment(admin)).isEqualTo(first + i);
+        }
+        assertThat(currentValue("COMMENT_SEQ")).isEqualTo(sequenceValue);
+        //8번째에서 다음 구간을 받는다.
+        persistComment(admin);
+        assertThat(currentValue("COMMENT_SEQ")).isEqualTo(sequenceValue + 7);
+    }
+
+    private long persistComment(Member admin) {
+        Comment comment = new Comment();
+        comment.setContent("answer");
+        comment.setMember(admin);
+        return em.persist(comment).getCommentId();
+    }
+
+    private long increment(String sequenceName) {
+        return jdbcTemplate.queryForObject(
+                "select increment from information_schema.sequences where sequence_name = ?", Long.class, sequenceName);
+    }
+
+    private long currentValue(String sequenceName) {
+        return jdbcTemplate.queryForObject(
+                "select base_value from information_schema.sequences where sequence_name = ?", Long.class, sequenceName);
+    }
+}
@@ -0,0 +1,47 @@
+package com.springboot.config;
+
+import com.springboot.SpringStartApplication;
+import com.springboot.member.repository.MemberRepository;
+import com.springboot.support.TestMembers;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//prod 프로필 : 파일 DB 에 schema.sql 로 스키마를 만들고 Hibernate 는 검증만 (ddl-auto: validate)
+    //재시작하면 스키마 스크립트를 다시 실행해도 기존 데이터가 남아 있어야 한다.
+class ProdProfileTest {
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void dataSurvivesRestart() {
+        long memberId;
+        try (ConfigurableApplicationContext context = start()) {
+            HikariDataSource dataSource = (HikariDataSource) context.getBean(DataSource.class);
+            assertThat(dataSource.getJdbcUrl()).startsWith("jdbc:h2:file:");
+            assertThat(dataSource.getMaximumPoolSize()).isEqualTo(10);
+
+            memberId = context.getBean(MemberRepository.class)
+                    .save(TestMembers.member("prod@gmail.com")).getMemberId();
+        }
+
+        try (ConfigurableApplicationContext context = start()) {
+            assertThat(context.getBean(MemberRepository.class).findById(memberId))
+                    .hasValueSatisfying(member -> assertThat(member.getEmail()).isEqualTo("prod@gmail.com"));
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(SpringStartApplication.class)
+                .profiles("prod")
+                .properties("DB_PATH=" + dataDir.resolve("board"), "server.port=0")
+                .run();
+    }
+}
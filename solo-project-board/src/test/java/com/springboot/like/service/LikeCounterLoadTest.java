@@ -0,0 +1,165 @@
+package com.springboot.like.service;
+
+import com.springboot.board.entity.Board;
+import com.springboot.board.repository.BoardRepository;
+import com.springboot.like.repository.BoardLikeShardRepository;
+import com.springboot.like.repository.LikeRepository;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import com.springboot.support.TestMembers;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//인기글 하나에 좋아요가 몰릴 때 shard 수에 따른 좋아요 처리량 측정 (로그 : shards=N likes/s=...)
+    //shard 1 : 모든 좋아요가 Board 한 행을 UPDATE -> 행 lock 대기로 직렬화
+    //shard N : 좋아요가 N 개 행에 나뉘어 기록
+//메모리 H2 는 커밋이 거의 즉시 끝나서 lock 을 잡는 시간이 없다.
+    //-> 실제 DB 처럼 UPDATE 후 커밋까지 걸리는 시간(네트워크 왕복, 커밋)을 COMMIT_LATENCY_MILLIS 로 흉내낸다.
+//처리량은 환경마다 다르므로 검증하지 않고, compact 후 좋아요 수가 정확한지만 검증한다.
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Import({LikeService.class, LikeCounter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LikeCounterLoadTest {
+    private static final int THREAD_COUNT = 32;
+    private static final int LIKE_COUNT = 3200;
+    private static final long COMMIT_LATENCY_MILLIS = 1;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeCounter likeCounter;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private BoardLikeShardRepository shardRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Long> memberIds;
+    private Member writer;
+    private long boardId;
+
+    @BeforeEach
+    void setUp() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < LIKE_COUNT; i++) {
+            members.add(TestMembers.member("member" + i + "@gmail.com"));
+        }
+        memberIds = new ArrayList<>();
+        memberRepository.saveAll(members).forEach(member -> memberIds.add(member.getMemberId()));
+
+        writer = members.get(0);
+        boardId = saveBoard("hot board").getBoardId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(likeCounter, "shardCount", 1);
+        likeRepository.deleteAllInBatch();
+        shardRepository.deleteAllInBatch();
+        boardRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 16})
+    void likeThroughputOnHotBoard(int shardCount) throws Exception {
+        ReflectionTestUtils.setField(likeCounter, "shardCount", shardCount);
+
+        //JIT, 커넥션 등 준비 : 다른 게시글에 좋아요 (측정 X)
+        runLikes(saveBoard("warm-up").getBoardId());
+
+        long startedAt = System.nanoTime();
+        runLikes(boardId);
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        log.info("# Hot board like throughput: shards={}, likes={}, threads={}, commit latency={}ms, likes/s={}",
+                shardCount, LIKE_COUNT, THREAD_COUNT, COMMIT_LATENCY_MILLIS,
+                String.format("%.0f", LIKE_COUNT / (elapsedNanos / 1_000_000_000.0)));
+
+        //조회 : Board.likeCount + shard 합 / compact 후 : Board.likeCount 만으로 정확
+        assertThat(boardRepository.findLikeCountByBoardId(boardId) + likeCounter.getPendingCount(boardId))
+                .isEqualTo(LIKE_COUNT);
+        likeCounter.compact(boardId);
+        assertThat(boardRepository.findLikeCountByBoardId(boardId)).isEqualTo(LIKE_COUNT);
+        assertThat(likeCounter.getPendingCount(boardId)).isZero();
+        assertThat(likeRepository.countByBoard_BoardId(boardId)).isEqualTo(LIKE_COUNT);
+    }
+
+    //THREAD_COUNT 개 스레드가 동시에 시작해서 회원마다 한번씩 좋아요 (스레드마다 LIKE_COUNT / THREAD_COUNT 명)
+        //좋아요 후 COMMIT_LATENCY_MILLIS 동안 트랜잭션(행 lock)을 유지하고 커밋
+    private void runLikes(long boardId) throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREAD_COUNT; thread++) {
+            int first = thread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = first; i < LIKE_COUNT; i += THREAD_COUNT) {
+                    long memberId = memberIds.get(i);
+                    transactionTemplate.executeWithoutResult(status -> {
+                        likeService.toggleLike(boardId, memberId);
+                        sleep(COMMIT_LATENCY_MILLIS);
+                    });
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(120, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    private Board saveBoard(String title) {
+        Board board = new Board();
+        board.setTitle(title);
+        board.setContent("content");
+        board.setPublicStatus(Board.BoardPublicStatus.PUBLIC);
+        board.setMember(writer);
+        return boardRepository.save(board);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.springboot.like.service;
+
+import com.springboot.board.entity.Board;
+import com.springboot.board.repository.BoardRepository;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.like.repository.LikeRepository;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import com.springboot.support.TestMembers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//여러 스레드가 동시에 좋아요를 토글해도 Board.likeCount 가 실제 좋아요(Love) 행 수와 정확히 같은지 확인
+    //각 토글은 자기 트랜잭션에서 커밋되어야 하므로 테스트 트랜잭션(롤백)은 사용하지 않는다.
+@DataJpaTest
+@Import({LikeService.class, LikeCounter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LikeServiceTest {
+    private static final int THREAD_COUNT = 200;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private long boardId;
+    private List<Long> memberIds;
+
+    @BeforeEach
+    void setUp() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            members.add(memberRepository.save(TestMembers.member("member" + i + "@gmail.com")));
+        }
+        memberIds = members.stream().map(Member::getMemberId).collect(Collectors.toList());
+
+        Board board = new Board();
+        board.setTitle("title");
+        board.setContent("content");
+        board.setPublicStatus(Board.BoardPublicStatus.PUBLIC);
+        board.setMember(members.get(0));
+        boardId = boardRepository.save(board).getBoardId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeRepository.deleteAllInBatch();
+        boardRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentLikesFromDifferentMembersAreAllCounted() throws Exception {
+        runConcurrently(THREAD_COUNT, i -> likeService.toggleLike(boardId, memberIds.get(i)));
+
+        assertThat(boardRepository.findLikeCountByBoardId(boardId)).isEqualTo(THREAD_COUNT);
+        assertThat(likeRepository.countByBoard_BoardId(boardId)).isEqualTo(THREAD_COUNT);
+    }
+
+    @Test
+    void concurrentTogglesKeepCountEqualToLikes() throws Exception {
+        //회원마다 1~3번 토글 -> 홀수 번 토글한 회원만 좋아요 상태
+        runConcurrently(THREAD_COUNT, i -> {
+            for (int toggle = 0; toggle <= i % 3; toggle++) {
+                likeService.toggleLike(boardId, memberIds.get(i));
+            }
+        });
+
+        long expected = IntStream.range(0, THREAD_COUNT).filter(i -> i % 3 != 1).count();
+        assertThat(likeRepository.countByBoard_BoardId(boardId)).isEqualTo(expected);
+        assertThat(boardRepository.findLikeCountByBoardId(boardId)).isEqualTo((int) expected);
+    }
+
+    @Test
+    void concurrentTogglesFromSameMemberNeverDriftFromLikes() throws Exception {
+        //같은 회원의 동시 토글 : 유니크 제약조건에 걸린 요청은 LIKE_CONFLICT 로 롤백
+        AtomicInteger conflicts = new AtomicInteger();
+        runConcurrently(THREAD_COUNT, i -> {
+            try {
+                likeService.toggleLike(boardId, memberIds.get(0));
+            } catch (BusinessLogicException e) {
+                assertThat(e.getExceptionCode()).isEqualTo(ExceptionCode.LIKE_CONFLICT);
+                conflicts.incrementAndGet();
+            }
+        });
+
+        long likes = likeRepository.countByBoard_BoardId(boardId);
+        assertThat(likes).isBetween(0L, 1L);
+        assertThat(boardRepository.findLikeCountByBoardId(boardId)).isEqualTo((int) likes);
+    }
+
+    //THREAD_COUNT 개 스레드가 동시에 시작해서 task 실행 (예외가 있으면 테스트 실패)
+    private void runConcurrently(int threadCount, IndexedTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run(index);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index) throws Exception;
+    }
+}
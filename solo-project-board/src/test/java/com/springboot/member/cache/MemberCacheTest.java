@@ -0,0 +1,89 @@
+package com.springboot.member.cache;
+
+import com.springboot.event.MemberChangedEvent;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import com.springboot.support.TestMembers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//회원 변경 트랜잭션이 커밋된 뒤에만 캐시에서 제거되는지 확인 (커밋 전에는 이전 값 유지, 롤백되면 그대로)
+    //커밋 시점에 동작하므로 테스트 트랜잭션(롤백)은 사용하지 않는다.
+@DataJpaTest
+@Import({MemberCache.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberCacheTest {
+    @Autowired
+    private MemberCache memberCache;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(TestMembers.member("member@gmail.com"));
+        memberCache.getById(member.getMemberId());
+        memberCache.getByEmail(member.getEmail());
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void changedMemberIsReloadedAfterCommit() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            quit();
+            //커밋 전 : 캐시된 이전 값
+            assertThat(memberCache.getById(member.getMemberId()).getMemberStatus())
+                    .isEqualTo(Member.MemberStatus.MEMBER_ACTIVE);
+        });
+
+        assertThat(memberCache.getById(member.getMemberId()).getMemberStatus())
+                .isEqualTo(Member.MemberStatus.MEMBER_QUIT);
+        assertThat(memberCache.getByEmail(member.getEmail()).getMemberStatus())
+                .isEqualTo(Member.MemberStatus.MEMBER_QUIT);
+    }
+
+    @Test
+    void rolledBackChangeKeepsCachedMember() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            quit();
+            status.setRollbackOnly();
+        });
+
+        assertThat(memberCache.getById(member.getMemberId()).getMemberStatus())
+                .isEqualTo(Member.MemberStatus.MEMBER_ACTIVE);
+        assertThat(memberCache.getByEmail(member.getEmail()).getMemberStatus())
+                .isEqualTo(Member.MemberStatus.MEMBER_ACTIVE);
+    }
+
+    //MemberService.updateMember 와 같은 순서 : 변경 후 MemberChangedEvent 발행
+    private void quit() {
+        Member findMember = memberRepository.findById(member.getMemberId()).orElseThrow();
+        findMember.setMemberStatus(Member.MemberStatus.MEMBER_QUIT);
+        memberRepository.saveAndFlush(findMember);
+        publisher.publishEvent(new MemberChangedEvent(this, findMember.getMemberId(), findMember.getEmail()));
+    }
+}
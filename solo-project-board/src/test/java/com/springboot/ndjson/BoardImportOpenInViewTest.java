@@ -0,0 +1,113 @@
+package com.springboot.ndjson;
+
+import com.springboot.auth.JwtTokenizer;
+import com.springboot.board.repository.BoardRepository;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import com.springboot.search.repository.BoardTokenRepository;
+import com.springboot.support.TestMembers;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.hasResource;
+
+//POST /v11/boards/import 를 요청 스레드에서 실행할 때 (open-in-view : 요청마다 EntityManager 하나)
+    //모든 chunk 가 같은 EntityManager 를 쓰므로, 등록이 끝난 뒤 영속성 컨텍스트에 등록한 엔티티가 남지 않는지 확인
+@SpringBootTest(properties = {"jwt.key=import-test-secret-key-import-test-secret-key-0123", "import.chunk-size=2"})
+@AutoConfigureMockMvc
+class BoardImportOpenInViewTest {
+    private static final int BOARD_COUNT = 7;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenizer jwtTokenizer;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardTokenRepository boardTokenRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    //요청 스레드에서는 open-in-view 가 열어 둔 EntityManager
+    @PersistenceContext
+    private EntityManager em;
+
+    @SpyBean
+    private BoardImportService boardImportService;
+
+    @AfterEach
+    void tearDown() {
+        boardTokenRepository.deleteAllInBatch();
+        boardRepository.deleteAllInBatch();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void importLeavesNoManagedEntitiesInTheRequestEntityManager() throws Exception {
+        Member admin = memberRepository.save(TestMembers.member("admin@gmail.com", "ADMIN", "USER"));
+        AtomicBoolean openInView = new AtomicBoolean();
+        AtomicInteger managedEntities = new AtomicInteger(-1);
+        doAnswer(invocation -> {
+            Object response = invocation.callRealMethod();
+            openInView.set(hasResource(entityManagerFactory));
+            managedEntities.set(em.unwrap(Session.class).getStatistics().getEntityCount());
+            return response;
+        }).when(boardImportService).importBoards(any(InputStream.class));
+
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            lines.add("{\"memberId\":" + admin.getMemberId() + ",\"title\":\"title " + i + "\"," +
+                    "\"content\":\"content\",\"publicStatus\":\"PUBLIC\"}");
+        }
+
+        mockMvc.perform(post("/v11/boards/import")
+                        .header("Authorization", "Bearer " + accessToken(admin))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(String.join("\n", lines)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(BOARD_COUNT));
+
+        assertThat(openInView).isTrue();
+        //chunk 마다 비우므로 Board, 색인, 회원 프록시가 남지 않는다.
+        assertThat(managedEntities).hasValue(0);
+        assertThat(boardRepository.count()).isEqualTo(BOARD_COUNT);
+    }
+
+    private String accessToken(Member member) {
+        return jwtTokenizer.generateAccessToken(
+                Map.of("username", member.getEmail(), "roles", member.getRoles()),
+                member.getEmail(),
+                jwtTokenizer.getTokenExpiration(10));
+    }
+}
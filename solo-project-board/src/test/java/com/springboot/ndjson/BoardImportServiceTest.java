@@ -0,0 +1,123 @@
+package com.springboot.ndjson;
+
+import com.springboot.board.entity.Board;
+import com.springboot.board.repository.BoardRepository;
+import com.springboot.dto.ImportResponseDto;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.member.repository.MemberRepository;
+import com.springboot.member.service.MemberService;
+import com.springboot.search.repository.BoardTokenRepository;
+import com.springboot.search.service.BoardSearchIndexer;
+import com.springboot.support.TestMembers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+//NDJSON 일괄 등록 : 잘못된 줄만 줄 번호와 함께 실패, 나머지는 chunk 단위로 등록
+    //chunk 마다 자기 트랜잭션으로 커밋하므로 테스트 트랜잭션(롤백)은 사용하지 않는다.
+@DataJpaTest(properties = "import.chunk-size=2")
+@Import({BoardImportService.class, BoardSearchIndexer.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BoardImportServiceTest {
+    private static final long WITHDRAWN_MEMBER_ID = 999L;
+
+    @Autowired
+    private BoardImportService boardImportService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardTokenRepository boardTokenRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @MockBean
+    private MemberService memberService;
+
+    private long memberId;
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberRepository.save(TestMembers.member("writer@gmail.com")).getMemberId();
+
+        doThrow(new BusinessLogicException(ExceptionCode.MEMBER_FORBIDDEN))
+                .when(memberService).checkMemberStatus(WITHDRAWN_MEMBER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        boardTokenRepository.deleteAllInBatch();
+        boardRepository.deleteAllInBatch();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void invalidLinesAreReportedAndOthersImported() throws Exception {
+        ImportResponseDto response = importLines(
+                post(memberId, "latte question", "PUBLIC"),
+                "{not json",
+                post(memberId, "", "PUBLIC"),
+                post(WITHDRAWN_MEMBER_ID, "first", "PUBLIC"),
+                "",
+                post(WITHDRAWN_MEMBER_ID, "second", "PUBLIC"),
+                post(memberId, "mocha question", "SECRET"),
+                post(memberId, "americano question", "PUBLIC"));
+
+        assertThat(response.getImported()).isEqualTo(3);
+        assertThat(response.getFailed()).isEqualTo(4);
+        assertThat(response.getFailures()).extracting(ImportResponseDto.Failure::getLine)
+                .containsExactly(2L, 3L, 4L, 6L);
+        assertThat(response.getFailures().get(3).getMessage()).isEqualTo("Be unable to write");
+        //회원 상태는 회원마다 한번만 확인
+        verify(memberService, times(1)).checkMemberStatus(memberId);
+        verify(memberService, times(1)).checkMemberStatus(WITHDRAWN_MEMBER_ID);
+
+        assertThat(boardRepository.findAll()).extracting(Board::getTitle)
+                .containsExactlyInAnyOrder("latte question", "mocha question", "americano question");
+        //등록한 게시글은 검색 색인에도 추가 (제목 2개 + 본문 1개 토큰씩)
+        assertThat(boardTokenRepository.findAll()).hasSize(9);
+    }
+
+    @Test
+    void failedChunkIsRetriedLineByLine() throws Exception {
+        //제목 컬럼(100자)보다 긴 제목 -> chunk INSERT 가 실패하면 한 줄씩 다시 등록
+        ImportResponseDto response = importLines(
+                post(memberId, "ok", "PUBLIC"),
+                post(memberId, "x".repeat(101), "PUBLIC"));
+
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getFailures()).extracting(ImportResponseDto.Failure::getLine).containsExactly(2L);
+        assertThat(boardRepository.findAll()).extracting(Board::getTitle).containsExactly("ok");
+    }
+
+    private ImportResponseDto importLines(String... lines) throws Exception {
+        byte[] body = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        return boardImportService.importBoards(new ByteArrayInputStream(body));
+    }
+
+    private String post(long memberId, String title, String publicStatus) {
+        return "{\"memberId\":" + memberId + ",\"title\":\"" + title + "\",\"content\":\"content\"," +
+                "\"publicStatus\":\"" + publicStatus + "\"}";
+    }
+}
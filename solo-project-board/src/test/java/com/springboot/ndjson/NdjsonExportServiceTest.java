@@ -0,0 +1,102 @@
+package com.springboot.ndjson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.board.entity.Board;
+import com.springboot.comment.entity.Comment;
+import com.springboot.member.entity.Member;
+import com.springboot.support.TestMembers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//전체 내보내기 : 한 줄에 JSON 하나, 삭제/비밀글 포함 전체를 id 순서로 (clear-interval 보다 많은 행)
+@DataJpaTest(properties = "export.clear-interval=2")
+@Import(NdjsonExportService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class NdjsonExportServiceTest {
+    @Autowired
+    private NdjsonExportService ndjsonExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Member writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = em.persist(TestMembers.member("writer@gmail.com"));
+        em.persist(TestMembers.member("admin@gmail.com"));
+    }
+
+    @Test
+    void exportBoardsWritesOneLinePerBoard() throws Exception {
+        Board answered = persistBoard("answered", Board.BoardPublicStatus.PUBLIC);
+        Comment comment = new Comment();
+        comment.setContent("answer");
+        comment.setMember(writer);
+        em.persist(comment);
+        answered.setComment(comment);
+        persistBoard("secret", Board.BoardPublicStatus.SECRET);
+        persistBoard("deleted", Board.BoardPublicStatus.PUBLIC).setBoardStatus(Board.BoardStatus.QUESTION_DELETE);
+        em.flush();
+        em.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = ndjsonExportService.exportBoards(out);
+
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertThat(body).endsWith("\n");
+        List<JsonNode> lines = parseLines(body);
+        assertThat(count).isEqualTo(3);
+        assertThat(lines).extracting(line -> line.get("title").asText())
+                .containsExactly("answered", "secret", "deleted");
+        assertThat(lines.get(0).get("comment").asText()).isEqualTo("answer");
+        assertThat(lines.get(2).get("boardStatus").asText()).isEqualTo("QUESTION_DELETE");
+    }
+
+    @Test
+    void exportMembersWritesOneLinePerMember() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = ndjsonExportService.exportMembers(out);
+
+        List<JsonNode> lines = parseLines(out.toString(StandardCharsets.UTF_8));
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).extracting(line -> line.get("email").asText())
+                .containsExactly("writer@gmail.com", "admin@gmail.com");
+        //비밀번호는 내보내지 않는다.
+        assertThat(lines.get(0).has("password")).isFalse();
+    }
+
+    private List<JsonNode> parseLines(String body) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private Board persistBoard(String title, Board.BoardPublicStatus publicStatus) {
+        Board board = new Board();
+        board.setTitle(title);
+        board.setContent("content");
+        board.setPublicStatus(publicStatus);
+        board.setMember(writer);
+        return em.persist(board);
+    }
+}
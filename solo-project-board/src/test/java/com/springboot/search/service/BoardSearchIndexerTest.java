@@ -0,0 +1,140 @@
+package com.springboot.search.service;
+
+import com.springboot.board.dto.BoardDto;
+import com.springboot.board.entity.Board;
+import com.springboot.board.repository.BoardRepository;
+import com.springboot.member.entity.Member;
+import com.springboot.search.repository.BoardTokenRepository;
+import com.springboot.support.TestMembers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//역색인 갱신(등록/수정/삭제)과 검색 조건(공개 여부, 삭제 상태) 확인
+@DataJpaTest
+@Import(BoardSearchIndexer.class)
+class BoardSearchIndexerTest {
+    private static final List<Board.BoardPublicStatus> PUBLIC_ONLY = List.of(Board.BoardPublicStatus.PUBLIC);
+
+    @Autowired
+    private BoardSearchIndexer boardSearchIndexer;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardTokenRepository boardTokenRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member writer;
+    private Member other;
+
+    @BeforeEach
+    void setUp() {
+        writer = em.persist(TestMembers.member("writer@gmail.com"));
+        other = em.persist(TestMembers.member("other@gmail.com"));
+    }
+
+    @Test
+    void tokenizeSplitsHangulIntoBigrams() {
+        assertThat(BoardTokenizer.tokenize("Spring게시판 질문입니다!"))
+                .containsExactly("spring", "게시", "시판", "질문", "문입", "입니", "니다");
+    }
+
+    @Test
+    void searchFindsBoardsContainingAllTokens() {
+        Board board = persistBoard("배송 문의", "주문한 커피가 아직 안 왔어요", Board.BoardPublicStatus.PUBLIC);
+        persistBoard("환불 문의", "커피 환불 가능한가요", Board.BoardPublicStatus.PUBLIC);
+
+        assertThat(search("커피 배송", other)).containsExactly(board.getBoardId());
+        assertThat(search("커피", other)).hasSize(2);
+    }
+
+    @Test
+    void updateReindexesOnlyChangedTokens() {
+        Board board = persistBoard("latte question", "milk", Board.BoardPublicStatus.PUBLIC);
+
+        board.setContent("oat milk");
+        boardSearchIndexer.index(board);
+        em.flush();
+
+        assertThat(Set.copyOf(boardTokenRepository.findTokensByBoardId(board.getBoardId())))
+                .containsExactlyInAnyOrder("latte", "question", "oat", "milk");
+        assertThat(search("oat", other)).containsExactly(board.getBoardId());
+
+        board.setTitle("mocha question");
+        boardSearchIndexer.index(board);
+        em.flush();
+
+        assertThat(search("latte", other)).isEmpty();
+        assertThat(search("mocha", other)).containsExactly(board.getBoardId());
+    }
+
+    @Test
+    void secretAndDeletedBoardsAreFiltered() {
+        Board secret = persistBoard("secret americano", "", Board.BoardPublicStatus.SECRET);
+        Board deleted = persistBoard("deleted americano", "", Board.BoardPublicStatus.PUBLIC);
+        deleted.setBoardStatus(Board.BoardStatus.QUESTION_DELETE);
+        em.flush();
+
+        //비밀글은 작성자, 관리자에게만 검색된다.
+        assertThat(search("americano", other)).isEmpty();
+        assertThat(search("americano", writer)).containsExactly(secret.getBoardId());
+        assertThat(boardRepository.searchBoards(Set.of("americano"), 1, Board.BoardStatus.QUESTION_DELETE,
+                List.of(Board.BoardPublicStatus.PUBLIC, Board.BoardPublicStatus.SECRET), other.getMemberId(),
+                PageRequest.of(0, 10)).getContent())
+                .extracting(BoardDto.Response::getBoardId).containsExactly(secret.getBoardId());
+
+        //삭제 시 색인에서 제거
+        boardSearchIndexer.remove(secret.getBoardId());
+        em.flush();
+        assertThat(search("americano", writer)).isEmpty();
+    }
+
+    @Test
+    void searchReadsTokensThroughTokenIndex() {
+        persistBoard("배송 문의", "주문한 커피가 아직 안 왔어요", Board.BoardPublicStatus.PUBLIC);
+
+        //searchBoards 의 토큰 조건 (token in (...) group by board_id) -> board_token 전체 스캔 X
+        String plan = jdbcTemplate.queryForObject("explain select b.board_id from board b " +
+                "where b.board_id in (select t.board_id from board_token t where t.token in ('커피', '배송') " +
+                "group by t.board_id having count(t.token) = 2) " +
+                "and b.board_status <> 'QUESTION_DELETE' order by b.board_id desc", String.class);
+
+        assertThat(plan).containsIgnoringCase("idx_board_token_token");
+    }
+
+    private List<Long> search(String keyword, Member member) {
+        Set<String> tokens = BoardTokenizer.tokenize(keyword);
+        return boardRepository.searchBoards(tokens, tokens.size(), Board.BoardStatus.QUESTION_DELETE,
+                        PUBLIC_ONLY, member.getMemberId(), PageRequest.of(0, 10))
+                .map(BoardDto.Response::getBoardId).getContent();
+    }
+
+    private Board persistBoard(String title, String content, Board.BoardPublicStatus publicStatus) {
+        Board board = new Board();
+        board.setTitle(title);
+        board.setContent(content);
+        board.setPublicStatus(publicStatus);
+        board.setMember(writer);
+        em.persist(board);
+        boardSearchIndexer.index(board);
+        em.flush();
+        return board;
+    }
+}
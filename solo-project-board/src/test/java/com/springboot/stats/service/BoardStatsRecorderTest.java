@@ -0,0 +1,73 @@
+package com.springboot.stats.service;
+
+import com.springboot.stats.entity.BoardStatsBucket;
+import com.springboot.stats.repository.BoardStatsBucketRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+//기록과 flush 가 동시에 실행돼도 구간에 더한 값이 유실되지 않는지 확인
+class BoardStatsRecorderTest {
+    private static final int THREAD_COUNT = 16;
+    private static final int LIKES_PER_THREAD = 5000;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 10, 30);
+
+    private final BoardStatsBucketRepository bucketRepository = mock(BoardStatsBucketRepository.class);
+    private final AtomicLong savedLikes = new AtomicLong();
+
+    @Test
+    void concurrentFlushDoesNotLoseCounts() throws Exception {
+        doAnswer(invocation -> {
+            Long likes = invocation.getArgument(4);
+            savedLikes.addAndGet(likes);
+            return 1;
+        }).when(bucketRepository).addCounts(anyLong(), any(BoardStatsBucket.Granularity.class),
+                any(LocalDateTime.class), anyLong(), anyLong());
+        BoardStatsRecorder recorder = new BoardStatsRecorder(bucketRepository);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> likers = new ArrayList<>();
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            likers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < LIKES_PER_THREAD; i++) {
+                    //구간이 자주 비도록 적은 수의 (게시글, 분) 에 나눠서 기록
+                    recorder.recordLike(i % 2, 1, NOW.plusMinutes(i % 3));
+                }
+                return null;
+            }));
+        }
+        //기록 도중 계속 flush -> 비어 있는 구간을 버퍼에서 제거하는 경합을 만든다.
+        Future<?> flusher = executor.submit(() -> {
+            start.await();
+            while (likers.stream().anyMatch(liker -> !liker.isDone())) {
+                recorder.flush();
+            }
+            return null;
+        });
+        start.countDown();
+        for (Future<?> liker : likers) {
+            liker.get(30, TimeUnit.SECONDS);
+        }
+        flusher.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        recorder.flush();
+
+        assertThat(savedLikes).hasValue((long) THREAD_COUNT * LIKES_PER_THREAD);
+    }
+}
@@ -0,0 +1,161 @@
+package com.springboot.stats.service;
+
+import com.springboot.board.entity.Board;
+import com.springboot.board.service.BoardService;
+import com.springboot.member.entity.Member;
+import com.springboot.stats.dto.BoardStatsDto;
+import com.springboot.stats.entity.BoardStatsBucket;
+import com.springboot.stats.repository.BoardStatsBucketRepository;
+import com.springboot.support.TestMembers;
+import com.springboot.view.ViewEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+//분 구간 기록 -> 시간/일 구간 rollup, 보관 기간 삭제, 인기글/게시글 통계 조회 확인
+@DataJpaTest
+@Import({BoardStatsRecorder.class, BoardStatsRollup.class, BoardStatsService.class})
+class BoardStatsRollupTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 10, 30);
+
+    @Autowired
+    private BoardStatsRecorder recorder;
+
+    @Autowired
+    private BoardStatsRollup rollup;
+
+    @Autowired
+    private BoardStatsService boardStatsService;
+
+    @Autowired
+    private BoardStatsBucketRepository bucketRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    //게시글 통계의 권한 확인에만 사용
+    @MockBean
+    private BoardService boardService;
+
+    private Member writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = em.persist(TestMembers.member("writer@gmail.com"));
+    }
+
+    @Test
+    void rollupSumsMinutesIntoHoursAndDays() {
+        long boardId = persistBoard(Board.BoardPublicStatus.PUBLIC);
+        recordViews(boardId, NOW, 3);
+        recordViews(boardId, NOW.minusMinutes(20), 2);
+        //직전 시간 구간
+        recordViews(boardId, NOW.minusHours(1), 4);
+        recorder.recordLike(boardId, 1, NOW);
+        recorder.recordLike(boardId, 1, NOW);
+        recorder.recordLike(boardId, -1, NOW);
+        recorder.flush();
+
+        rollup.rollup(NOW);
+        //다시 계산해도 같은 값
+        rollup.rollup(NOW);
+
+        assertThat(counts(boardId, BoardStatsBucket.Granularity.MINUTE, NOW)).containsExactly(3L, 1L);
+        assertThat(counts(boardId, BoardStatsBucket.Granularity.HOUR, NOW)).containsExactly(5L, 1L);
+        assertThat(counts(boardId, BoardStatsBucket.Granularity.HOUR, NOW.minusHours(1))).containsExactly(4L, 0L);
+        assertThat(counts(boardId, BoardStatsBucket.Granularity.DAY, NOW)).containsExactly(9L, 1L);
+
+        //늦게 flush 된 조회도 다음 rollup 에 반영
+        recordViews(boardId, NOW.minusMinutes(5), 1);
+        recorder.flush();
+        rollup.rollup(NOW.plusMinutes(1));
+        assertThat(counts(boardId, BoardStatsBucket.Granularity.HOUR, NOW)).containsExactly(6L, 1L);
+        assertThat(counts(boardId, BoardStatsBucket.Granularity.DAY, NOW)).containsExactly(10L, 1L);
+    }
+
+    @Test
+    void rollupDeletesExpiredMinuteBuckets() {
+        long boardId = persistBoard(Board.BoardPublicStatus.PUBLIC);
+        recordViews(boardId, NOW.minusHours(1), 2);
+        recorder.flush();
+        rollup.rollup(NOW);
+
+        //분 구간 보관 기간(3시간) 이후 : 분 구간은 삭제, 시간 구간은 유지
+        rollup.rollup(NOW.plusHours(3));
+
+        assertThat(bucketRepository.findByBoardIdAndGranularityAndBucketStartGreaterThanEqualOrderByBucketStart(
+                boardId, BoardStatsBucket.Granularity.MINUTE, NOW.minusDays(1))).isEmpty();
+        assertThat(counts(boardId, BoardStatsBucket.Granularity.HOUR, NOW.minusHours(1))).containsExactly(2L, 0L);
+    }
+
+    @Test
+    void trendingOrdersByScoreAndSkipsSecretBoards() {
+        long popular = persistBoard(Board.BoardPublicStatus.PUBLIC);
+        long liked = persistBoard(Board.BoardPublicStatus.PUBLIC);
+        long secret = persistBoard(Board.BoardPublicStatus.SECRET);
+        recordViews(popular, NOW, 10);
+        recordViews(liked, NOW.minusMinutes(10), 2);
+        recorder.recordLike(liked, 1, NOW);
+        recorder.recordLike(liked, 1, NOW);
+        recordViews(secret, NOW, 100);
+        //1시간 기간 밖
+        recordViews(liked, NOW.minusHours(2), 50);
+        recorder.flush();
+        //2시간 전 구간은 그 시각의 rollup 에서 계산됨
+        rollup.rollup(NOW.minusHours(1));
+        rollup.rollup(NOW);
+
+        //점수 : popular 10, liked 2 + 2 * 5 = 12
+        assertThat(boardStatsService.findTrending(StatsWindow.HOUR, 10, NOW))
+                .extracting(BoardStatsDto.Trending::getBoardId).containsExactly(liked, popular);
+        //하루 기간 : liked 2 + 50 + 2 * 5 = 62
+        assertThat(boardStatsService.findTrending(StatsWindow.DAY, 1, NOW))
+                .extracting(BoardStatsDto.Trending::getBoardId, BoardStatsDto.Trending::getViewCount)
+                .containsExactly(tuple(liked, 52L));
+
+        BoardStatsDto.Response stats = boardStatsService.findBoardStats(liked, StatsWindow.DAY, NOW);
+        assertThat(stats.getViewCount()).isEqualTo(52);
+        assertThat(stats.getLikeCount()).isEqualTo(2);
+        assertThat(stats.getBuckets()).extracting(BoardStatsDto.Bucket::getBucketStart)
+                .containsExactly(NOW.minusHours(2).withMinute(0), NOW.withMinute(0));
+    }
+
+    //[조회수, 좋아요] (구간이 없으면 빈 목록)
+    private List<Long> counts(long boardId, BoardStatsBucket.Granularity granularity, LocalDateTime time) {
+        //bulk UPDATE 는 영속성 컨텍스트에 반영되지 않는다.
+        em.clear();
+        return bucketRepository.findById(new BoardStatsBucket.BucketId(boardId, granularity, granularity.truncate(time)))
+                .map(bucket -> List.of(bucket.getViewCount(), bucket.getLikeCount()))
+                .orElse(List.of());
+    }
+
+    private void recordViews(long boardId, LocalDateTime viewedAt, int count) {
+        long millis = viewedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        List<ViewEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(new ViewEvent(boardId, i, millis));
+        }
+        recorder.recordViews(events);
+    }
+
+    private long persistBoard(Board.BoardPublicStatus publicStatus) {
+        Board board = new Board();
+        board.setTitle("title");
+        board.setContent("content");
+        board.setPublicStatus(publicStatus);
+        board.setMember(writer);
+        return em.persist(board).getBoardId();
+    }
+}
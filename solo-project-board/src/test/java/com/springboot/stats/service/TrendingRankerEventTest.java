@@ -0,0 +1,55 @@
+package com.springboot.stats.service;
+
+import com.springboot.event.BoardHiddenEvent;
+import com.springboot.stats.dto.BoardStatsDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//비밀글 변경, 삭제 트랜잭션이 커밋된 뒤에만 인기글 순위에서 제거되는지 확인
+    //커밋 시점에 동작하므로 테스트 트랜잭션(롤백)은 사용하지 않는다.
+@DataJpaTest
+@Import(TrendingRanker.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TrendingRankerEventTest {
+    @Autowired
+    private TrendingRanker trendingRanker;
+
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void hiddenBoardIsRemovedAfterCommit() {
+        trendingRanker.recordView(1L, "first");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            publisher.publishEvent(new BoardHiddenEvent(this, 1L));
+            //커밋 전 : 순위 유지
+            assertThat(trendingRanker.top(10)).extracting(BoardStatsDto.Ranked::getBoardId).contains(1L);
+        });
+
+        assertThat(trendingRanker.top(10)).extracting(BoardStatsDto.Ranked::getBoardId).doesNotContain(1L);
+    }
+
+    @Test
+    void rolledBackHideKeepsBoardRanked() {
+        trendingRanker.recordView(2L, "second");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            publisher.publishEvent(new BoardHiddenEvent(this, 2L));
+            status.setRollbackOnly();
+        });
+
+        assertThat(trendingRanker.top(10)).extracting(BoardStatsDto.Ranked::getBoardId).contains(2L);
+    }
+}
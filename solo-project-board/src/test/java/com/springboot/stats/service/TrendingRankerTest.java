@@ -0,0 +1,111 @@
+package com.springboot.stats.service;
+
+import com.springboot.stats.dto.BoardStatsDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+
+//감소하는 점수 순서, 용량 초과 시 제거, checkpoint 저장/복원 확인
+@DataJpaTest
+class TrendingRankerTest {
+    private static final long HALF_LIFE_MILLIS = 60 * 60_000L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void recentActivityOutranksOlderActivity() {
+        TrendingRanker ranker = newRanker(10);
+        long now = System.currentTimeMillis();
+        //1시간 전 조회 3건 = 현재 조회 1.5건
+        for (int i = 0; i < 3; i++) {
+            ranker.add(1L, "old", 1, now - HALF_LIFE_MILLIS);
+        }
+        ranker.add(2L, "new", 1, now);
+        ranker.add(2L, "new", 1, now);
+
+        assertThat(ranker.top(10)).extracting(BoardStatsDto.Ranked::getBoardId).containsExactly(2L, 1L);
+        assertThat(ranker.top(10).get(1).getScore()).isCloseTo(1.5, within(0.01));
+    }
+
+    @Test
+    void likesOnlyCountForRankedBoardsAndLowestIsEvicted() {
+        TrendingRanker ranker = newRanker(2);
+        long now = System.currentTimeMillis();
+        //순위에 없는 게시글(비밀글 등)의 좋아요는 반영하지 않음
+        ranker.add(1L, null, 5, now);
+        ranker.add(1L, "first", 1, now);
+        ranker.add(2L, "second", 2, now);
+        ranker.add(1L, null, 5, now);
+        //가득 찬 상태에서 추가 -> 점수가 가장 낮은 게시글 제거
+        ranker.add(3L, "third", 3, now);
+
+        assertThat(ranker.top(10)).extracting(BoardStatsDto.Ranked::getBoardId).containsExactly(1L, 3L);
+
+        ranker.remove(1L);
+        assertThat(ranker.top(10)).extracting(BoardStatsDto.Ranked::getBoardId).containsExactly(3L);
+    }
+
+    @Test
+    void sizeIsClampedToAllowedRange() {
+        TrendingRanker ranker = newRanker(200);
+        long now = System.currentTimeMillis();
+        for (long boardId = 1; boardId <= 150; boardId++) {
+            ranker.add(boardId, "board" + boardId, 1, now);
+        }
+
+        assertThat(ranker.top(-1)).hasSize(1);
+        assertThat(ranker.top(0)).hasSize(1);
+        assertThat(ranker.top(Integer.MAX_VALUE)).hasSize(BoardStatsService.MAX_TRENDING_SIZE);
+    }
+
+    @Test
+    void rankingStaysOrderedAfterRebase() {
+        TrendingRanker ranker = newRanker(10);
+        long now = System.currentTimeMillis();
+        ranker.add(1L, "first", 8, now);
+        ranker.add(2L, "second", 4, now);
+        ranker.add(3L, "third", 2, now);
+        //2 half-life 후 checkpoint -> 가중치를 1/4 로 줄여서 다시 넣는다.
+        long later = now + 2 * HALF_LIFE_MILLIS;
+        ranker.checkpoint(later);
+
+        ranker.remove(2L);
+        ranker.add(3L, null, 2, later);
+
+        assertThat(ranker.top(10))
+                .extracting(BoardStatsDto.Ranked::getBoardId).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void checkpointIsRestoredAfterRestart() {
+        TrendingRanker ranker = newRanker(10);
+        long now = System.currentTimeMillis();
+        ranker.add(1L, "first", 4, now);
+        ranker.add(2L, "second", 2, now);
+        ranker.checkpoint(now);
+
+        TrendingRanker restarted = newRanker(10);
+        restarted.restore();
+
+        assertThat(restarted.top(10))
+                .extracting(BoardStatsDto.Ranked::getBoardId, BoardStatsDto.Ranked::getTitle)
+                .containsExactly(
+                        tuple(1L, "first"),
+                        tuple(2L, "second"));
+        assertThat(restarted.top(1).get(0).getScore()).isCloseTo(4, within(0.01));
+    }
+
+    private TrendingRanker newRanker(int capacity) {
+        return new TrendingRanker(jdbcTemplate, transactionTemplate, capacity, 5, 60);
+    }
+}
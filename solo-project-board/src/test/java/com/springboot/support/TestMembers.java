@@ -0,0 +1,24 @@
+package com.springboot.support;
+
+import com.springboot.member.entity.Member;
+
+import java.util.List;
+
+//테스트용 회원 (저장하지 않은 새 Member)
+    //username 은 email 과 같고, 권한을 주지 않으면 USER
+    //ex) memberRepository.save(TestMembers.member("writer@gmail.com"))
+    //    em.persist(TestMembers.member("admin@gmail.com", "ADMIN", "USER"))
+public final class TestMembers {
+    private TestMembers() {
+    }
+
+    public static Member member(String email, String... roles) {
+        Member member = new Member();
+        member.setEmail(email);
+        member.setPassword("password");
+        member.setUsername(email);
+        member.setPhone("010-1234-5678");
+        member.setRoles(roles.length == 0 ? List.of("USER") : List.of(roles));
+        return member;
+    }
+}
@@ -0,0 +1,46 @@
+package com.springboot.view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+//추정 오차, 중복 값, 저장/복원, 합치기 확인
+class HyperLogLogTest {
+    @Test
+    void estimateIsWithinErrorBound() {
+        HyperLogLog hyperLogLog = new HyperLogLog();
+        for (long memberId = 1; memberId <= 100_000; memberId++) {
+            hyperLogLog.add(memberId);
+        }
+
+        //표준 오차 1.6% -> 3% 이내
+        assertThat((double) hyperLogLog.estimate()).isCloseTo(100_000, within(3_000.0));
+    }
+
+    @Test
+    void duplicatesDoNotChangeEstimate() {
+        HyperLogLog hyperLogLog = new HyperLogLog();
+        for (long memberId = 1; memberId <= 10; memberId++) {
+            hyperLogLog.add(memberId);
+        }
+        long estimate = hyperLogLog.estimate();
+
+        for (long memberId = 1; memberId <= 10; memberId++) {
+            assertThat(hyperLogLog.add(memberId)).isFalse();
+        }
+        assertThat(hyperLogLog.estimate()).isEqualTo(estimate).isEqualTo(10);
+    }
+
+    @Test
+    void restoredSketchKeepsEstimate() {
+        HyperLogLog hyperLogLog = new HyperLogLog();
+        for (long memberId = 1; memberId <= 5_000; memberId++) {
+            hyperLogLog.add(memberId);
+        }
+
+        byte[] registers = hyperLogLog.toBytes();
+        assertThat(registers).hasSize(HyperLogLog.REGISTER_COUNT);
+        assertThat(HyperLogLog.fromBytes(registers).estimate()).isEqualTo(hyperLogLog.estimate());
+    }
+}
@@ -0,0 +1,128 @@
+package com.springboot.view;
+
+import com.springboot.board.repository.BoardRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+//조회와 flush 가 동시에 실행돼도 조회수가 유실되지 않는지 확인
+class ViewCountBufferTest {
+    private static final int THREAD_COUNT = 16;
+    private static final int VIEWS_PER_THREAD = 5000;
+    private static final int BOARD_COUNT = 4;
+
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    //boardId 별로 DB 에 반영된 조회수
+    private final Map<Long, AtomicLong> flushed = new ConcurrentHashMap<>();
+    //UPDATE 를 실행한 스레드 이름
+    private final Set<String> flushThreads = ConcurrentHashMap.newKeySet();
+
+    @Test
+    void concurrentFlushDoesNotLoseViews() throws Exception {
+        recordFlushes();
+        ViewCountBuffer buffer = buffer(Long.MAX_VALUE);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> viewers = new ArrayList<>();
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            viewers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+                    buffer.increase(i % BOARD_COUNT, i);
+                }
+                return null;
+            }));
+        }
+        //조회 도중 계속 flush -> 증가 중인 LongAdder 를 비우고 다시 쓰는 경합을 만든다.
+        Future<?> flusher = executor.submit(() -> {
+            start.await();
+            while (viewers.stream().anyMatch(viewer -> !viewer.isDone())) {
+                buffer.flush();
+            }
+            return null;
+        });
+        start.countDown();
+        for (Future<?> viewer : viewers) {
+            viewer.get(30, TimeUnit.SECONDS);
+        }
+        flusher.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        buffer.flush();
+
+        long total = flushed.values().stream().mapToLong(AtomicLong::get).sum();
+        assertThat(total).isEqualTo((long) THREAD_COUNT * VIEWS_PER_THREAD);
+        assertThat(ReflectionTestUtils.getField(buffer, "bufferedDeltas")).hasToString("0");
+    }
+
+    @Test
+    void idleCountersAreRemovedFromTheBuffer() {
+        recordFlushes();
+        ViewCountBuffer buffer = buffer(Long.MAX_VALUE);
+
+        buffer.increase(1L, 1L);
+        buffer.increase(2L, 1L);
+        buffer.flush();
+        //다음 flush 까지 조회가 없으면 제거
+        buffer.increase(2L, 2L);
+        buffer.flush();
+
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(buffer, "pendingCounts")).containsOnlyKeys(2L);
+        buffer.flush();
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(buffer, "pendingCounts")).isEmpty();
+        assertThat(flushed.get(1L)).hasValue(1);
+        assertThat(flushed.get(2L)).hasValue(2);
+        assertThat(buffer.getPendingCount(1L)).isZero();
+    }
+
+    @Test
+    void overflowFlushRunsOffTheRequestThread() throws Exception {
+        recordFlushes();
+        ViewCountBuffer buffer = buffer(10);
+
+        for (int i = 0; i < 10; i++) {
+            buffer.increase(1L, i);
+        }
+        //정상 종료 시 예약된 overflow flush 가 끝날 때까지 기다린다.
+        buffer.flushOnShutdown();
+
+        assertThat(flushed.get(1L)).hasValue(10);
+        assertThat(flushThreads).containsExactly("view-count-flush");
+    }
+
+    private void recordFlushes() {
+        doAnswer(invocation -> {
+            flushThreads.add(Thread.currentThread().getName());
+            Long boardId = invocation.getArgument(0);
+            Integer delta = invocation.getArgument(1);
+            flushed.computeIfAbsent(boardId, id -> new AtomicLong()).addAndGet(delta);
+            return 1;
+        }).when(boardRepository).increaseViewCount(anyLong(), anyInt());
+    }
+
+    private ViewCountBuffer buffer(long maxBufferedDeltas) {
+        ViewCountBuffer buffer = new ViewCountBuffer(boardRepository, mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(buffer, "dedupePerMember", false);
+        ReflectionTestUtils.setField(buffer, "maxBufferedDeltas", maxBufferedDeltas);
+        ReflectionTestUtils.setField(buffer, "flushOnShutdown", true);
+        return buffer;
+    }
+}
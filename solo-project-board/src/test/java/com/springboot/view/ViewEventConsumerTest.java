@@ -0,0 +1,119 @@
+package com.springboot.view;
+
+import com.springboot.board.entity.Board;
+import com.springboot.board.repository.BoardRepository;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import com.springboot.stats.service.BoardStatsRecorder;
+import com.springboot.support.TestMembers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//조회 이벤트가 중복 제거 후 batch INSERT 로 View 행이 되는지, 조회 회원 수가 갱신되는지 확인
+    //consumer 스레드가 자기 트랜잭션으로 저장하므로 테스트 트랜잭션(롤백)은 사용하지 않는다.
+@DataJpaTest(properties = "view.events.dedupe-window-seconds=60")
+@Import({ViewEventQueue.class, ViewEventConsumer.class, UniqueViewerCounter.class, BoardStatsRecorder.class,
+        SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ViewEventConsumerTest {
+    @Autowired
+    private ViewEventQueue viewEventQueue;
+
+    @Autowired
+    private ViewEventConsumer viewEventConsumer;
+
+    @Autowired
+    private UniqueViewerCounter uniqueViewerCounter;
+
+    @Autowired
+    private ViewRepository viewRepository;
+
+    @Autowired
+    private BoardViewerSketchRepository sketchRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private long boardId;
+    private long memberId;
+    private long otherMemberId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(TestMembers.member("member@gmail.com"));
+        memberId = member.getMemberId();
+        otherMemberId = memberRepository.save(TestMembers.member("other@gmail.com")).getMemberId();
+
+        Board board = new Board();
+        board.setTitle("title");
+        board.setContent("content");
+        board.setPublicStatus(Board.BoardPublicStatus.PUBLIC);
+        board.setMember(member);
+        boardId = boardRepository.save(board).getBoardId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        viewRepository.deleteAllInBatch();
+        sketchRepository.deleteAllInBatch();
+        boardRepository.deleteAllInBatch();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void writeSkipsRepeatedViewsInSameWindow() {
+        long now = System.currentTimeMillis();
+        int written = viewEventConsumer.write(List.of(
+                new ViewEvent(boardId, memberId, now),
+                new ViewEvent(boardId, memberId, now),
+                new ViewEvent(boardId, otherMemberId, now)));
+        //다음 batch 의 같은 조회도 제외
+        written += viewEventConsumer.write(List.of(new ViewEvent(boardId, memberId, now)));
+
+        assertThat(written).isEqualTo(2);
+        assertThat(viewRepository.findAll())
+                .allSatisfy(view -> assertThat(view.getViewedAt()).isNotNull())
+                .hasSize(2);
+    }
+
+    @Test
+    void writeUpdatesUniqueViewers() {
+        long now = System.currentTimeMillis();
+        viewEventConsumer.write(List.of(
+                new ViewEvent(boardId, memberId, now),
+                new ViewEvent(boardId, otherMemberId, now)));
+        //다른 시간 구간의 같은 회원 조회 : View 행은 저장되지만 조회 회원 수는 그대로
+        viewEventConsumer.write(List.of(new ViewEvent(boardId, memberId, now + 120_000)));
+
+        assertThat(viewRepository.count()).isEqualTo(3);
+        assertThat(uniqueViewerCounter.getUniqueViewers(boardId)).isEqualTo(2);
+        assertThat(sketchRepository.findUniqueViewersByBoardId(boardId)).contains(2L);
+    }
+
+    @Test
+    void publishedEventsAreWrittenInBackground() throws InterruptedException {
+        viewEventQueue.publish(boardId, memberId);
+        viewEventQueue.publish(boardId, otherMemberId);
+
+        //consumer 스레드가 저장할 때까지 최대 5초 대기
+        long deadline = System.currentTimeMillis() + 5000;
+        while (viewRepository.count() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(viewRepository.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,84 @@
+package com.springboot.view;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//큐가 가득 찼을 때 정책(drop, block, sample)대로 이벤트를 버리고 지표에 남기는지 확인
+class ViewEventQueueTest {
+    private static final int CAPACITY = 10;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void dropPolicyDropsWhenFull() {
+        ViewEventQueue queue = queue("drop", 0);
+
+        publish(queue, CAPACITY + 5);
+
+        assertThat(queue.size()).isEqualTo(CAPACITY);
+        assertThat(dropped("full")).isEqualTo(5);
+        assertThat(meterRegistry.get("view.events.queue.size").gauge().value()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void blockPolicyWaitsForSpace() throws Exception {
+        ViewEventQueue queue = queue("block", 1000);
+        publish(queue, CAPACITY);
+
+        //가득 찬 큐에서 이벤트를 꺼내면 기다리던 조회가 들어간다.
+        Thread consumer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+                queue.drainTo(new ArrayList<>(), 1, 0);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+
+        assertThat(queue.publish(1L, 1L)).isTrue();
+        consumer.join();
+        assertThat(dropped("full")).isZero();
+    }
+
+    @Test
+    void samplePolicyKeepsOnlySomeEventsWhenAlmostFull() {
+        ViewEventQueue queue = new ViewEventQueue(meterRegistry, 1000, "sample", 0, 0.5, 0.0);
+
+        publish(queue, 1000);
+
+        //절반(sample-threshold)까지는 모두, 그 뒤로는 sample-rate(0) 만큼만
+        assertThat(queue.size()).isEqualTo(500);
+        assertThat(dropped("sampled")).isEqualTo(500);
+    }
+
+    @Test
+    void drainToMovesAtMostMaxEvents() throws Exception {
+        ViewEventQueue queue = queue("drop", 0);
+        publish(queue, CAPACITY);
+
+        List<ViewEvent> events = new ArrayList<>();
+        assertThat(queue.drainTo(events, 4, 0)).isEqualTo(4);
+        assertThat(events).hasSize(4);
+        assertThat(queue.size()).isEqualTo(CAPACITY - 4);
+    }
+
+    private ViewEventQueue queue(String overflowPolicy, long blockTimeoutMillis) {
+        return new ViewEventQueue(meterRegistry, CAPACITY, overflowPolicy, blockTimeoutMillis, 0.8, 0.1);
+    }
+
+    private void publish(ViewEventQueue queue, int count) {
+        for (int i = 0; i < count; i++) {
+            queue.publish(1L, i);
+        }
+    }
+
+    private double dropped(String reason) {
+        return meterRegistry.get("view.events.dropped").tag("reason", reason).counter().count();
+    }
+}